@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.0"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -62,6 +63,9 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter:1.19.3")
     testImplementation("org.springframework.security:spring-security-test")
 
+    // JMH 벤치마크 (src/jmh)
+    jmh("org.springframework:spring-test")
+
     // OpenAPI
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.6")
 
@@ -107,3 +111,11 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 }
+
+// 마이크로벤치마크 (src/jmh, 실행: ./gradlew jmh)
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
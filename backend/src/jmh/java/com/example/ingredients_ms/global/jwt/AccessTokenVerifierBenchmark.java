@@ -0,0 +1,137 @@
+package com.example.ingredients_ms.global.jwt;
+
+import com.example.ingredients_ms.domain.user.entity.Role;
+import com.example.ingredients_ms.domain.user.entity.User;
+import com.example.ingredients_ms.global.jwt.store.LocalAccessTokenRevocationStore;
+import com.example.ingredients_ms.global.security.SecurityUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 번의 액세스 토큰 인증 비용 비교
+ * legacyDoubleParse: 이전 인가 필터 경로 (verify 와 getClaims 에서 파서를 매번 새로 만들어 두 번 파싱하고 body 클레임을 새 ObjectMapper 로 역직렬화)
+ * verifyCacheMiss: AccessTokenVerifier 의 캐시 미스 경로 (공유 파서로 한 번만 파싱)
+ * verifyCacheHit: AccessTokenVerifier 의 반복 요청 (해시 조회 + 노드 메모리 폐기 기록 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AccessTokenVerifierBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123";
+
+    private JwtProvider jwtProvider;
+    private AccessTokenVerifier verifier;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        setField(jwtProvider, "secretKey", SECRET);
+        setField(jwtProvider, "accessTokenExpiration", 3600);
+        jwtProvider.initParser();
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry());
+        setField(cache, "maxSize", 10000);
+        cache.initialize();
+
+        verifier = new AccessTokenVerifier(jwtProvider, cache, new LocalAccessTokenRevocationStore());
+
+        User user = User.builder().id(1L).userName("benchmark").email("benchmark@example.com").role(Role.USER).build();
+        token = jwtProvider.genAccessToken(user);
+        legacyToken = genLegacyToken(user);
+
+        // 캐시 적중 경로용으로 미리 한 번 검증
+        verifier.verify(token);
+    }
+
+    @Benchmark
+    public SecurityUser legacyDoubleParse() throws Exception {
+        if (!legacyVerify(legacyToken)) {
+            return null;
+        }
+        return toSecurityUser(legacyGetClaims(legacyToken));
+    }
+
+    @Benchmark
+    public SecurityUser verifyCacheMiss() {
+        // AccessTokenVerifier.verify 의 캐시 미스 경로 (공유 파서로 한 번 파싱 + 클레임 변환)
+        Claims claims = jwtProvider.parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        Map<String, Object> userClaims = JwtProvider.userClaimsOf(claims);
+        return toSecurityUser(userClaims);
+    }
+
+    @Benchmark
+    public SecurityUser verifyCacheHit() {
+        return verifier.verify(token);
+    }
+
+    // 이전 JwtProvider.verify (호출마다 파서 생성)
+    private boolean legacyVerify(String token) {
+        try {
+            Jwts.parserBuilder().setSigningKey(jwtProvider.getSecretKey()).build().parseClaimsJws(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 이전 JwtProvider.getClaims (파서 생성 + body 클레임을 새 ObjectMapper 로 역직렬화)
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> legacyGetClaims(String token) throws Exception {
+        String body = Jwts.parserBuilder()
+                .setSigningKey(jwtProvider.getSecretKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get("body", String.class);
+        return new ObjectMapper().readValue(body, LinkedHashMap.class);
+    }
+
+    // 이전 JwtProvider.genToken 형식 (사용자 정보를 JSON 문자열로 body 클레임에 담음)
+    private String genLegacyToken(User user) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("id", user.getId());
+        claims.put("username", user.getUserName());
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getRole());
+        try {
+            return Jwts.builder()
+                    .claim("body", new ObjectMapper().writeValueAsString(claims))
+                    .setExpiration(new Date(System.currentTimeMillis() + 3600_000L))
+                    .signWith(jwtProvider.getSecretKey(), SignatureAlgorithm.HS512)
+                    .compact();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SecurityUser toSecurityUser(Map<String, Object> claims) {
+        long id = Long.parseLong(claims.get("id").toString());
+        return new SecurityUser(id, String.valueOf(claims.get("email")), String.valueOf(claims.get("username")), "",
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role"))));
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
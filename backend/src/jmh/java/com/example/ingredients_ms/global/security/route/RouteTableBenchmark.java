@@ -0,0 +1,79 @@
+package com.example.ingredients_ms.global.security.route;
+
+import com.example.ingredients_ms.config.ApiRouteConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 번의 API 경로 규칙 조회 비용 비교
+ * legacyRequestMatchers: 이전 필터 체인 (인가 필터의 제외 경로 List.contains + 선언 순서대로 requestMatchers 를 비교해 첫 규칙 찾기)
+ * routeTable: RouteTable.match (트라이를 한 번 내려가 인가 필터와 권한 검사가 같은 결과를 사용)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RouteTableBenchmark {
+
+    private static final List<String> LEGACY_SKIP_PATHS = List.of(
+            "/api/v1/users/login",
+            "/api/v1/users/logout",
+            "/api/v1/users/signup",
+            "/api/v1/email/send",
+            "/api/v1/email/verify",
+            "/api/v1/users/findPW",
+            "/api/v1/users/findID"
+    );
+
+    // 앞쪽/중간/뒤쪽 규칙과 맞는 요청, 제외 경로 요청
+    @Param({
+            "GET /api/v1/consumedlog/thismonth",
+            "GET /api/v1/recipe/detail/42",
+            "GET /api/v1/admin/charts/users",
+            "POST /api/v1/users/login"
+    })
+    private String request;
+
+    private RouteTable routeTable;
+    private List<RequestMatcher> legacyMatchers;
+    private MockHttpServletRequest servletRequest;
+    private String method;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        routeTable = new ApiRouteConfig().apiRouteTable();
+        legacyMatchers = routeTable.rules().stream()
+                .map(rule -> (RequestMatcher) new AntPathRequestMatcher(rule.getPattern(),
+                        rule.getMethod() == null ? null : rule.getMethod().name()))
+                .toList();
+
+        String[] parts = request.split(" ");
+        method = parts[0];
+        path = parts[1];
+        servletRequest = new MockHttpServletRequest(method, path);
+    }
+
+    @Benchmark
+    public Object legacyRequestMatchers() {
+        if (LEGACY_SKIP_PATHS.contains(servletRequest.getRequestURI())) {
+            return null;
+        }
+        for (RequestMatcher matcher : legacyMatchers) {
+            if (matcher.matches(servletRequest)) {
+                return matcher;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public RouteRule routeTable() {
+        // 요청 속성에 남긴 결과를 쓰지 않는 첫 조회 비용
+        return routeTable.match(method, path);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.ingredients_ms.config;
+
+import com.example.ingredients_ms.global.security.route.RouteTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API 경로별 접근 규칙 (먼저 선언된 규칙이 우선, 맞는 규칙이 없는 /api 요청은 거부)
+ * 애플리케이션 시작 시 한 번 트라이로 컴파일되어 인가 필터와 ApiSecurityConfig 가 함께 사용합니다.
+ */
+@Configuration
+public class ApiRouteConfig {
+
+    @Bean
+    public RouteTable apiRouteTable() {
+        return RouteTable.builder()
+
+
+                // 식품 재고 사용량 로그 통계 api
+                .get("/api/*/consumedlog/thismonth").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/thisweek").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/monthly").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/thisyear").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/last3months").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/all").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/history").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/consumedlog/export").hasAnyRole("USER", "ADMIN")
+
+                // 재고 관리 api
+                .put("/api/*/inventory/").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/inventory/**").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/inventory/").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/places").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/place").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/my").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/category/*").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/inventory/*").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/expiring-soon").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/statistics/ingredients").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/inventory/statistics/most/consumed").hasAnyRole("USER", "ADMIN")
+
+                // 식재료 api
+                .get("/api/*/ingredient/*").hasAnyRole("USER", "ADMIN")
+                .put("/api/*/ingredient/*").hasAnyRole("ADMIN")
+                .delete("/api/*/ingredient/*").hasAnyRole("ADMIN")
+                .get("/api/*/ingredient/").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/ingredient/").hasAnyRole("ADMIN")
+                .get("/api/*/ingredient/category/*").hasAnyRole("USER", "ADMIN")
+
+                // 민원 피드백 api
+                .put("/api/*/feedback/*").hasAnyRole("ADMIN")
+                .delete("/api/*/feedback/*").hasAnyRole("ADMIN")
+                .get("/api/*/feedback/*").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/feedback/*").hasAnyRole("ADMIN")
+                .get("/api/*/feedback").hasAnyRole("ADMIN")
+                .get("/api/*/feedback/").hasAnyRole("ADMIN")
+
+                // 장바구니 아이템 api
+                .get("/api/*/cart/item").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/cart/item/").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/cart/item").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/cart/item/").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/cart/item/*").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/cart/item/*").hasAnyRole("USER", "ADMIN")
+
+                // 유저 정보 관리 api
+                .post("/api/*/users/signup").skipAuthentication().permitAll()
+                .post("/api/*/users/login").skipAuthentication().permitAll()
+                .post("/api/*/users/exchange/phone").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/exchange/password").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/exchange/nickname").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/users/me").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/logout").skipAuthentication().permitAll()
+                .post("/api/*/users/findPW").skipAuthentication().permitAll()
+                .get("/api/*/users/findID").skipAuthentication().permitAll()
+                .delete("/api/*/users/withdraw").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/admin/login").permitAll()
+                .post("/api/*/users/profile").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/change/status").hasRole("ADMIN")
+                .delete("/api/*/users/drop/*").hasRole("ADMIN")
+                .patch("/api/*/users/change/userdata").hasRole("ADMIN")
+                .post("/api/*/users/exchange/profile").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/users/change/userdata").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/users/exchange/profile-data").hasAnyRole("USER", "ADMIN")
+
+                // 유저 통계 및 관리 api
+                .get("/api/*/users/statistics/").hasRole("ADMIN")
+                .get("/api/*/users/statistics/*").hasRole("ADMIN")
+
+                // 이메일 관련 api
+                .post("/api/*/email/verify").skipAuthentication().permitAll()
+                .post("/api/*/email/send").skipAuthentication().permitAll()
+
+                // 식단 관리 api
+                .post("/api/*/diet/add").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/diet/*").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/diet/*").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/*/*").hasAnyRole("USER", "ADMIN")
+
+                // 식단 통계 api
+                .get("/api/*/diet/statistics/week").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/statistics/month").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/statistics/quarter").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/statistics/year").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/statistics/week/graph").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/diet/statistics/summary").hasAnyRole("USER", "ADMIN")
+
+                // 민원 관리 api
+                .post("/api/*/complaints/").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/complaints/*").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/complaints/*").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/complaints/*/status/*").hasAnyRole("ADMIN")
+                .get("/api/*/complaints/*").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/complaints/users").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/complaints/all").hasAnyRole("USER", "ADMIN")
+
+                // 식재료 카테고리 관리 api
+                .put("/api/*/category/*").hasAnyRole("ADMIN")
+                .delete("/api/*/category/*").hasAnyRole("ADMIN")
+                .get("/api/*/category/").hasAnyRole("USER", "ADMIN")
+                .post("/api/*/category/").hasAnyRole("ADMIN")
+
+                // 이미지 업로드 관련 api
+                .post("/api/*/images/upload").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/images/*").hasAnyRole("USER", "ADMIN")
+
+                // 레시피 관련 api
+                .post("/api/*/recipe/").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/recipe/all").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/recipe/feed").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/recipe/detail/*").permitAll()
+                .delete("/api/*/recipe/*").hasAnyRole("USER", "ADMIN")
+
+                //레시피 좋아요 관련 api
+                .post("/api/*/recipe/*/like").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/recipe/*/like").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/recipe/*/like").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/recipe/likes").hasAnyRole("USER", "ADMIN")
+
+                // 레시피 추천 관련 api
+                .get("/api/*/recipe/recommend/").hasAnyRole("USER", "ADMIN")
+
+                // 관리자 통계 관련 api
+                .get("/api/*/admin/statistics/*").hasRole("ADMIN")
+                .get("/api/*/admin/charts/{theme}").hasRole("ADMIN")
+
+                // 알람 기능 관련 api
+                .get("/api/*/notifications/stream").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/notifications").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/notifications/unread-count").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/notifications/*/read").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/notifications/read-all").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/notifications/preferences").hasAnyRole("USER", "ADMIN")
+                .patch("/api/*/notifications/preferences").hasAnyRole("USER", "ADMIN")
+                .delete("/api/*/notifications/*").hasAnyRole("USER", "ADMIN")
+                .get("/api/*/notifications/connections").hasRole("ADMIN")
+
+                // sse 연결 관련 api
+                .get("/sse/connect").permitAll()
+
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.ingredients_ms.config;
+
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알람 보관 정책 (custom.notification.retention)
+ * 타입별 보관 기간을 지정하지 않으면 default-retention 을 따르고, 0 이하면 삭제하지 않습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "custom.notification.retention")
+public class NotificationRetentionProperties {
+
+    private Duration defaultRetention = Duration.ofDays(30);
+
+    private Map<NotificationType, Duration> types = new EnumMap<>(NotificationType.class);
+
+    // 한 번에 삭제할 id 범위 크기
+    private int batchSize = 5000;
+
+    // 배치 사이 대기 시간 (복제 지연/락 경합 완화)
+    private Duration pause = Duration.ofMillis(200);
+
+    public Duration retentionOf(NotificationType type) {
+        return types.getOrDefault(type, defaultRetention);
+    }
+
+    /**
+     * 보관 기간이 있는 타입별 삭제 기준 시각 (이 시각 이전에 생성된 알람은 보관 기간이 지남)
+     */
+    public Map<NotificationType, LocalDateTime> expiredBefore(LocalDateTime now) {
+        Map<NotificationType, LocalDateTime> cutoffs = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            Duration retention = retentionOf(type);
+            if (retention != null && !retention.isZero() && !retention.isNegative()) {
+                cutoffs.put(type, now.minus(retention));
+            }
+        }
+        return cutoffs;
+    }
+
+    /**
+     * 모든 타입 중 가장 긴 보관 기간 (보관 기간 없이 유지하는 타입이 있으면 null)
+     */
+    public Duration longestRetention() {
+        Duration longest = Duration.ZERO;
+        for (NotificationType type : NotificationType.values()) {
+            Duration retention = retentionOf(type);
+            if (retention == null || retention.isZero() || retention.isNegative()) {
+                return null;
+            }
+            if (retention.compareTo(longest) > 0) {
+                longest = retention;
+            }
+        }
+        return longest;
+    }
+}
@@ -13,6 +13,14 @@ public class AdminStatisticsResponseDto {
     private final double activeUserGrowthRate;
     private final double newUserGrowthRate;
     private final double complaintRate;
+
+    // 활동 사용자 (오늘/최근 7일/최근 30일, 직전 같은 길이 기간 대비 증가율)
+    private final long dailyActiveUsers;
+    private final double dailyActiveUserGrowthRate;
+    private final long weeklyActiveUsers;
+    private final double weeklyActiveUserGrowthRate;
+    private final long monthlyActiveUsers;
+    private final double monthlyActiveUserGrowthRate;
     
     // 레시피 통계
     private final long totalRecipes;
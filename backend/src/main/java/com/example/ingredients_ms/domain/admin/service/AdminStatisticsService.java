@@ -2,265 +2,184 @@ package com.example.ingredients_ms.domain.admin.service;
 
 import com.example.ingredients_ms.domain.admin.dto.response.AdminStatisticsResponseDto;
 import com.example.ingredients_ms.domain.admin.dto.response.ChartDataResponseDto;
-import com.example.ingredients_ms.domain.complaint.repository.ComplaintRepository;
-import com.example.ingredients_ms.domain.diet.repository.DietRepository;
-import com.example.ingredients_ms.domain.feedback.repository.ComplaintFeedbackRepository;
-import com.example.ingredients_ms.domain.foodinventory.repository.FoodInventoryRepository;
-import com.example.ingredients_ms.domain.ingredients.repository.IngredientsRepository;
-import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
 import com.example.ingredients_ms.domain.user.repository.UserRepository;
-import com.example.ingredients_ms.domain.user.service.UserStatisticsService;
-import com.example.ingredients_ms.domain.useractivity.service.UserActivityService;
 import com.example.ingredients_ms.global.Status;
-import com.example.ingredients_ms.global.exeption.BusinessLogicException;
-import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.example.ingredients_ms.global.statistics.ChartResolution;
+import com.example.ingredients_ms.global.statistics.RollupMetric;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository.PeriodCounts;
+import com.example.ingredients_ms.global.statistics.StatisticsPeriod;
+import com.example.ingredients_ms.global.statistics.active.ActiveUserTracker;
+import com.example.ingredients_ms.global.statistics.active.ActiveUserTracker.WindowCount;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdminStatisticsService {
 
-    private final UserStatisticsService userStatisticsService;
+    private static final List<RollupMetric> CHART_METRICS = List.of(
+            RollupMetric.USERS, RollupMetric.RECIPES,
+            RollupMetric.LOGINS, RollupMetric.RECIPE_VIEWS, RollupMetric.RECIPE_CREATIONS);
+
+    private final StatisticsCountRepository statisticsCountRepository;
     private final UserRepository userRepository;
-    private final UserActivityService userActivityService;
-    private final RecipeRepository recipeRepository;
-    private final IngredientsRepository ingredientRepository;
-    private final ComplaintRepository complaintRepository;
-    private final ComplaintFeedbackRepository complaintFeedbackRepository;
-    private final DietRepository dietRepository;
-    private final FoodInventoryRepository foodInventoryRepository;
+    private final ActiveUserTracker activeUserTracker;
 
-    public AdminStatisticsResponseDto getAdminStatistics(String theme) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start;
-        LocalDateTime prevStart;
-        LocalDateTime prevEnd;
+    @Value("${custom.statistics.chart.cache-ttl-ms:60000}")
+    private long chartCacheTtlMs;
 
-        // 테마별 기간 계산
-        switch (theme) {
-            case "week" -> {
-                start = now.minusWeeks(1);
-                prevStart = now.minusWeeks(2);
-                prevEnd = now.minusWeeks(1);
-            }
-            case "month" -> {
-                start = now.minusMonths(1);
-                prevStart = now.minusMonths(2);
-                prevEnd = now.minusMonths(1);
-            }
-            case "quarter" -> {
-                start = now.minusMonths(3);
-                prevStart = now.minusMonths(6);
-                prevEnd = now.minusMonths(3);
-            }
-            case "year" -> {
-                start = now.minusYears(1);
-                prevStart = now.minusYears(2);
-                prevEnd = now.minusYears(1);
-            }
-            default -> throw new BusinessLogicException(ExceptionCode.UNKNOW_THEME);
-        }
+    // 테마별 완성된 차트 (테마 수만큼만 쌓임)
+    private final Map<String, CachedChart> chartCache = new ConcurrentHashMap<>();
 
-        // 사용자 통계 (기존 서비스 활용)
-        var userStats = userStatisticsService.getStatistics(theme);
-        
-        // 레시피 통계
-        long totalRecipes = recipeRepository.count();
-        long currentRecipes = recipeRepository.countByCreatedAtBetween(start, now);
-        long prevRecipes = recipeRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double recipeGrowthRate = calculateGrowthRate(currentRecipes, prevRecipes);
-        
-        // 식자재 통계
-        long totalIngredients = ingredientRepository.count();
-        long currentIngredients = ingredientRepository.countByCreatedAtBetween(start, now);
-        long prevIngredients = ingredientRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double ingredientGrowthRate = calculateGrowthRate(currentIngredients, prevIngredients);
-        
-        // 민원 통계
-        long totalComplaints = complaintRepository.count();
-        long currentComplaints = complaintRepository.countByCreatedAtBetween(start, now);
-        long prevComplaints = complaintRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double complaintGrowthRate = calculateGrowthRate(currentComplaints, prevComplaints);
-        
-        // 피드백 통계
-        long totalFeedback = complaintFeedbackRepository.count();
-        long currentFeedback = complaintFeedbackRepository.countByCreatedAtBetween(start, now);
-        long prevFeedback = complaintFeedbackRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double feedbackGrowthRate = calculateGrowthRate(currentFeedback, prevFeedback);
-        
-        // 식단 통계
-        long totalDietLogs = dietRepository.count();
-        long currentDietLogs = dietRepository.countByCreatedAtBetween(start, now);
-        long prevDietLogs = dietRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double dietLogGrowthRate = calculateGrowthRate(currentDietLogs, prevDietLogs);
-        
-        // 재고 통계
-        long totalInventoryItems = foodInventoryRepository.count();
-        long currentInventoryItems = foodInventoryRepository.countByCreatedAtBetween(start, now);
-        long prevInventoryItems = foodInventoryRepository.countByCreatedAtBetween(prevStart, prevEnd);
-        double inventoryGrowthRate = calculateGrowthRate(currentInventoryItems, prevInventoryItems);
+    /**
+     * 관리자 대시보드 요약 통계
+     * 모든 지표를 일별 집계 테이블에서 한 번에 더하므로 기간과 관계없이 조회 한 번으로 끝납니다.
+     */
+    public AdminStatisticsResponseDto getAdminStatistics(String theme) {
+        StatisticsPeriod period = StatisticsPeriod.of(theme, LocalDateTime.now());
+        Map<RollupMetric, PeriodCounts> counts = statisticsCountRepository.countAll(period);
+
+        PeriodCounts users = counts.get(RollupMetric.USERS);
+        WindowCount activeUsers = activeUserTracker.count(period);
+        WindowCount dailyActiveUsers = activeUserTracker.countLastDays(1);
+        WindowCount weeklyActiveUsers = activeUserTracker.countLastDays(7);
+        WindowCount monthlyActiveUsers = activeUserTracker.countLastDays(30);
+        PeriodCounts recipes = counts.get(RollupMetric.RECIPES);
+        PeriodCounts ingredients = counts.get(RollupMetric.INGREDIENTS);
+        PeriodCounts complaints = counts.get(RollupMetric.COMPLAINTS);
+        PeriodCounts feedback = counts.get(RollupMetric.FEEDBACK);
+        PeriodCounts dietLogs = counts.get(RollupMetric.DIET_LOGS);
+        PeriodCounts inventoryItems = counts.get(RollupMetric.INVENTORY_ITEMS);
 
         return AdminStatisticsResponseDto.builder()
-                .totalUsers(userStats.getTotalUsers())
-                .activeUsers(userStats.getActiveUsers())
-                .newUsers(userStats.getNewUsers())
-                .activeUserGrowthRate(userStats.getActiveUserGrowthRate())
-                .newUserGrowthRate(userStats.getNewUserGrowthRate())
-                .complaintRate(userStats.getComplaintRate())
-                .totalRecipes(totalRecipes)
-                .recipeGrowthRate(recipeGrowthRate)
-                .totalIngredients(totalIngredients)
-                .ingredientGrowthRate(ingredientGrowthRate)
-                .totalComplaints(totalComplaints)
-                .complaintGrowthRate(complaintGrowthRate)
-                .totalFeedback(totalFeedback)
-                .feedbackGrowthRate(feedbackGrowthRate)
-                .totalDietLogs(totalDietLogs)
-                .dietLogGrowthRate(dietLogGrowthRate)
-                .totalInventoryItems(totalInventoryItems)
-                .inventoryGrowthRate(inventoryGrowthRate)
+                .totalUsers(users.getTotal())
+                .activeUsers(activeUsers.current())
+                .newUsers(users.getCurrent())
+                .activeUserGrowthRate(activeUsers.growthRate())
+                .newUserGrowthRate(users.growthRate())
+                .complaintRate(StatisticsCountRepository.rateOf(
+                        counts.get(RollupMetric.COMPLETED_COMPLAINTS).getTotal(), complaints.getTotal()))
+                .dailyActiveUsers(dailyActiveUsers.current())
+                .dailyActiveUserGrowthRate(dailyActiveUsers.growthRate())
+                .weeklyActiveUsers(weeklyActiveUsers.current())
+                .weeklyActiveUserGrowthRate(weeklyActiveUsers.growthRate())
+                .monthlyActiveUsers(monthlyActiveUsers.current())
+                .monthlyActiveUserGrowthRate(monthlyActiveUsers.growthRate())
+                .totalRecipes(recipes.getTotal())
+                .recipeGrowthRate(recipes.growthRate())
+                .totalIngredients(ingredients.getTotal())
+                .ingredientGrowthRate(ingredients.growthRate())
+                .totalComplaints(complaints.getTotal())
+                .complaintGrowthRate(complaints.growthRate())
+                .totalFeedback(feedback.getTotal())
+                .feedbackGrowthRate(feedback.growthRate())
+                .totalDietLogs(dietLogs.getTotal())
+                .dietLogGrowthRate(dietLogs.growthRate())
+                .totalInventoryItems(inventoryItems.getTotal())
+                .inventoryGrowthRate(inventoryItems.growthRate())
                 .build();
     }
 
+    /**
+     * 관리자 대시보드 차트
+     * 테마 기간을 ChartResolution 단위로 나눠 일별 집계를 구간별로 한 번에 더하고, 값이 없는 구간은 0으로 채웁니다.
+     * 완성된 차트는 테마별로 cache-ttl-ms 동안 재사용합니다.
+     */
     public ChartDataResponseDto getChartData(String theme) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start;
-        LocalDateTime end;
+        ChartResolution resolution = ChartResolution.ofTheme(theme);
 
-        // 테마별 기간 계산
-        switch (theme) {
-            case "week" -> {
-                start = now.minusWeeks(1);
-                end = now;
-            }
-            case "month" -> {
-                start = now.minusMonths(1);
-                end = now;
-            }
-            case "quarter" -> {
-                start = now.minusMonths(3);
-                end = now;
-            }
-            case "year" -> {
-                start = now.minusYears(1);
-                end = now;
-            }
-            default -> throw new BusinessLogicException(ExceptionCode.UNKNOW_THEME);
+        CachedChart cached = chartCache.get(theme);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.chart();
         }
 
-        // 주간 트렌드 데이터 생성
-        List<ChartDataResponseDto.WeeklyTrendDto> weeklyTrend = generateWeeklyTrendData(start, end);
-        
-        // 사용자 상태 분포 데이터 생성
-        List<ChartDataResponseDto.UserStatusDistributionDto> userStatusDistribution = generateUserStatusDistribution();
-        
-        // 일별 활동 데이터 생성
-        List<ChartDataResponseDto.DailyActivityDto> dailyActivity = generateDailyActivityData(start, end);
+        StatisticsPeriod period = StatisticsPeriod.of(theme, LocalDateTime.now());
+        List<LocalDate> buckets = resolution.buckets(period.startDate(), period.endDate());
+        Map<LocalDate, Map<RollupMetric, Long>> values = statisticsCountRepository.sumByBucket(
+                CHART_METRICS, period.startDate(), period.endDate(), resolution);
 
-        return ChartDataResponseDto.builder()
-                .weeklyTrend(weeklyTrend)
-                .userStatusDistribution(userStatusDistribution)
-                .dailyActivity(dailyActivity)
+        ChartDataResponseDto chart = ChartDataResponseDto.builder()
+                .weeklyTrend(generateTrendData(buckets, values, resolution, period))
+                .userStatusDistribution(generateUserStatusDistribution())
+                .dailyActivity(generateActivityData(buckets, values, resolution))
                 .build();
+
+        chartCache.put(theme, new CachedChart(chart, System.currentTimeMillis() + chartCacheTtlMs));
+        return chart;
     }
 
-    private List<ChartDataResponseDto.WeeklyTrendDto> generateWeeklyTrendData(LocalDateTime start, LocalDateTime end) {
-        List<ChartDataResponseDto.WeeklyTrendDto> weeklyTrend = new ArrayList<>();
-        String[] days = {"월", "화", "수", "목", "금", "토", "일"};
-        
-        for (int i = 0; i < 7; i++) {
-            LocalDateTime dayStart = start.plusDays(i);
-            LocalDateTime dayEnd = dayStart.plusDays(1);
-            
-            long activeUsers = userRepository.countByStatusAndCreatedAtBetween(
-                Status.ACTIVE, dayStart, dayEnd);
-            long newUsers = userRepository.countByCreatedAtBetween(dayStart, dayEnd);
-            long recipeRegistrations = recipeRepository.countByCreatedAtBetween(dayStart, dayEnd);
-            
-            weeklyTrend.add(ChartDataResponseDto.WeeklyTrendDto.builder()
-                    .day(days[i])
-                    .activeUsers(activeUsers)
-                    .newUsers(newUsers)
-                    .recipeRegistrations(recipeRegistrations)
-                    .build());
-        }
-        
-        return weeklyTrend;
+    private List<ChartDataResponseDto.WeeklyTrendDto> generateTrendData(List<LocalDate> buckets,
+            Map<LocalDate, Map<RollupMetric, Long>> values, ChartResolution resolution, StatisticsPeriod period) {
+        return buckets.stream()
+                .map(bucket -> {
+                    Map<RollupMetric, Long> bucketValues = values.getOrDefault(bucket, Map.of());
+                    // 구간 안에서 한 번 이상 활동한 사용자 수 (첫/마지막 구간은 기간 경계로 자름)
+                    LocalDate from = bucket.isBefore(period.startDate()) ? period.startDate() : bucket;
+                    LocalDate to = resolution.bucketEnd(bucket).isAfter(period.endDate())
+                            ? period.endDate() : resolution.bucketEnd(bucket);
+                    return ChartDataResponseDto.WeeklyTrendDto.builder()
+                            .day(resolution.label(bucket))
+                            .activeUsers(activeUserTracker.count(from, to))
+                            .newUsers(bucketValues.getOrDefault(RollupMetric.USERS, 0L))
+                            .recipeRegistrations(bucketValues.getOrDefault(RollupMetric.RECIPES, 0L))
+                            .build();
+                })
+                .toList();
     }
 
     private List<ChartDataResponseDto.UserStatusDistributionDto> generateUserStatusDistribution() {
-        long activeUsers = userRepository.countByStatus(Status.ACTIVE);
-        long inactiveUsers = userRepository.countByStatus(Status.INACTIVE);
-        long pendingUsers = userRepository.countByStatus(Status.PENDING);
-        
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Object[] row : userRepository.countGroupByStatus()) {
+            counts.put((Status) row[0], (Long) row[1]);
+        }
+
         List<ChartDataResponseDto.UserStatusDistributionDto> distribution = new ArrayList<>();
         distribution.add(ChartDataResponseDto.UserStatusDistributionDto.builder()
                 .name("활성 사용자")
-                .value(activeUsers)
+                .value(counts.getOrDefault(Status.ACTIVE, 0L))
                 .color("#10B981")
                 .build());
         distribution.add(ChartDataResponseDto.UserStatusDistributionDto.builder()
                 .name("휴면 사용자")
-                .value(inactiveUsers)
+                .value(counts.getOrDefault(Status.INACTIVE, 0L))
                 .color("#F59E0B")
                 .build());
         distribution.add(ChartDataResponseDto.UserStatusDistributionDto.builder()
                 .name("대기 사용자")
-                .value(pendingUsers)
+                .value(counts.getOrDefault(Status.PENDING, 0L))
                 .color("#3B82F6")
                 .build());
         
         return distribution;
     }
 
-    private List<ChartDataResponseDto.DailyActivityDto> generateDailyActivityData(LocalDateTime start, LocalDateTime end) {
-        List<ChartDataResponseDto.DailyActivityDto> dailyActivity = new ArrayList<>();
-        
-        // 실제 활동 데이터 조회
-        List<UserActivityService.DailyActivityStats> activityStats = userActivityService.getDailyActivityStats(start, end);
-        
-        // 활동 데이터가 있으면 실제 데이터 사용, 없으면 기본값 생성
-        if (!activityStats.isEmpty()) {
-            for (UserActivityService.DailyActivityStats stats : activityStats) {
-                dailyActivity.add(ChartDataResponseDto.DailyActivityDto.builder()
-                        .date(stats.getDate())
-                        .logins(stats.getLogins())
-                        .recipeViews(stats.getRecipeViews())
-                        .recipeRegistrations(stats.getRecipeCreations())
-                        .build());
-            }
-        } else {
-            // 실제 데이터가 없을 때 기본값 생성
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd");
-            
-            for (int i = 0; i < 7; i++) {
-                LocalDateTime dayStart = start.plusDays(i);
-                long recipeRegistrations = recipeRepository.countByCreatedAtBetween(dayStart, dayStart.plusDays(1));
-                
-                dailyActivity.add(ChartDataResponseDto.DailyActivityDto.builder()
-                        .date(dayStart.format(formatter))
-                        .logins((long) (Math.random() * 100) + 50)
-                        .recipeViews((long) (Math.random() * 200) + 100)
-                        .recipeRegistrations(recipeRegistrations)
-                        .build());
-            }
-        }
-        
-        return dailyActivity;
+    private List<ChartDataResponseDto.DailyActivityDto> generateActivityData(
+            List<LocalDate> buckets, Map<LocalDate, Map<RollupMetric, Long>> values, ChartResolution resolution) {
+        return buckets.stream()
+                .map(bucket -> {
+                    Map<RollupMetric, Long> bucketValues = values.getOrDefault(bucket, Map.of());
+                    return ChartDataResponseDto.DailyActivityDto.builder()
+                            .date(resolution.label(bucket))
+                            .logins(bucketValues.getOrDefault(RollupMetric.LOGINS, 0L))
+                            .recipeViews(bucketValues.getOrDefault(RollupMetric.RECIPE_VIEWS, 0L))
+                            .recipeRegistrations(bucketValues.getOrDefault(RollupMetric.RECIPE_CREATIONS, 0L))
+                            .build();
+                })
+                .toList();
     }
 
-    private double calculateGrowthRate(long current, long previous) {
-        if (previous == 0) {
-            return current > 0 ? 100.0 : 0.0;
-        }
-        return ((double) (current - previous) / previous) * 100.0;
+    private record CachedChart(ChartDataResponseDto chart, long expiresAtMillis) {
     }
 }
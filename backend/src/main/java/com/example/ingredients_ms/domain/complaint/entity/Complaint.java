@@ -3,6 +3,7 @@ package com.example.ingredients_ms.domain.complaint.entity;
 import com.example.ingredients_ms.domain.feedback.entity.ComplaintFeedback;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Getter
 @Setter
 @Table(name="complaint")
@@ -1,7 +1,6 @@
 package com.example.ingredients_ms.domain.complaint.service;
 
-import com.example.ingredients_ms.domain.complaint.entity.ComplaintStatus;
-import com.example.ingredients_ms.domain.complaint.repository.ComplaintRepository;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -9,18 +8,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ComplaintStatisticsService {
 
-    private final ComplaintRepository complaintRepository;
+    private final StatisticsCountRepository statisticsCountRepository;
 
+    // 전체 건수와 처리 완료 건수를 한 문장으로 집계 (민원이 없으면 0%)
     public double getComplaintRate() {
-        long totalComplaints = complaintRepository.count();
-
-        if (totalComplaints == 0) {
-            return 0.0; // 민원이 하나도 없으면 0% 처리율
-        }
-
-        long resolvedComplaints = complaintRepository.countByStatus(ComplaintStatus.COMPLETED);
-
-        return (double) resolvedComplaints / totalComplaints * 100.0;
+        return statisticsCountRepository.complaintRate();
     }
 
 
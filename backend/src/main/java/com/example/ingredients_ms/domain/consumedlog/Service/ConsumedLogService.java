@@ -1,30 +1,49 @@
 package com.example.ingredients_ms.domain.consumedlog.Service;
 
 
+import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogHistoryResponseDto;
+import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogPageResponseDto;
 import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogResponseDto;
 import com.example.ingredients_ms.domain.consumedlog.dto.response.MonthlyConsumedLogResponseDto;
 import com.example.ingredients_ms.domain.consumedlog.entity.ConsumedLog;
 
+import com.example.ingredients_ms.domain.consumedlog.repository.ConsumedLogHistoryRepository;
 import com.example.ingredients_ms.domain.consumedlog.repository.ConsumedLogRepository;
 import com.example.ingredients_ms.domain.ingredientscategory.repository.IngredientsCategoryRepository;
+import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ConsumedLogService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ALL_LOGS = 1000;
+
     private final ConsumedLogRepository consumedLogRepository;
     private final IngredientsCategoryRepository ingredientsCategoryRepository;
+    private final StatisticsRollupRepository statisticsRollupRepository;
+    private final ConsumedLogHistoryRepository consumedLogHistoryRepository;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public List<ConsumedLogResponseDto> getThisMonthConsumedLogStat(Long userId) {
@@ -45,33 +64,20 @@ public class ConsumedLogService {
         return result;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MonthlyConsumedLogResponseDto> getMonthlyConsumedLogByCategory(Long userId) {
         int currentYear = LocalDateTime.now().getYear();
         
-        // 이번년도 월별 카테고리별 사용량 조회
-        List<Object[]> monthlyData = consumedLogRepository.findMonthlyConsumedQuantityByCategory(userId, currentYear);
-        
-        List<MonthlyConsumedLogResponseDto> result = new ArrayList<>();
-        
-        for (Object[] data : monthlyData) {
-            Integer month = (Integer) data[0];
-            Long categoryId = (Long) data[1];
-            String categoryName = (String) data[2];
-            Long totalConsumedQuantity = (Long) data[3];
-            
-            MonthlyConsumedLogResponseDto dto = MonthlyConsumedLogResponseDto.builder()
-                    .month(month)
-                    .monthName(month + "월")
-                    .categoryId(categoryId)
-                    .categoryName(categoryName)
-                    .totalConsumedQuantity(totalConsumedQuantity.intValue())
-                    .build();
-            
-            result.add(dto);
-        }
-        
-        return result;
+        // 이번년도 월별 카테고리별 사용량 조회 (일별 집계 기준)
+        return statisticsRollupRepository.findUserMonthlyConsumption(userId, currentYear).stream()
+                .map(data -> MonthlyConsumedLogResponseDto.builder()
+                        .month(data.month())
+                        .monthName(data.month() + "월")
+                        .categoryId(data.categoryId())
+                        .categoryName(data.categoryName())
+                        .totalConsumedQuantity((int) data.quantity())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -101,17 +107,17 @@ public class ConsumedLogService {
 
         return result;
     }
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ConsumedLogResponseDto> getThisYearConsumedLogStat(Long userId) {
         // 1. 이번 연도의 시작일과 종료일 계산
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfYear = now.with(TemporalAdjusters.firstDayOfYear()).withHour(0).withMinute(0).withSecond(0).withNano(0);
         LocalDateTime endOfYear = now.with(TemporalAdjusters.lastDayOfYear()).withHour(23).withMinute(59).withSecond(59).withNano(999999999);
 
-        // 2. JPA 메서드를 사용하여 이번 연도 데이터 조회
-        List<ConsumedLogResponseDto> result = consumedLogRepository.findByUser_IdAndConsumedDateBetween(userId, startOfYear, endOfYear)
+        // 2. 엔티티 대신 필요한 컬럼만 (user_id, consumed_date, id) 인덱스 범위로 조회
+        List<ConsumedLogResponseDto> result = consumedLogHistoryRepository.findBetween(userId, startOfYear, endOfYear)
                 .stream()
-                .map(ConsumedLogResponseDto::fromEntity)
+                .map(ConsumedLogResponseDto::fromHistory)
                 .collect(Collectors.toList());
 
         return result;
@@ -135,14 +141,95 @@ public class ConsumedLogService {
 
         return result;
     }
-    @Transactional(readOnly = true)
+    /**
+     * 최근 사용 기록 최대 1000건 조회
+     *
+     * @deprecated 전체 기록은 {@link #getHistory} (커서 페이지네이션) 또는 {@link #exportLogs} (NDJSON) 를 사용
+     */
+    @Deprecated
     public List<ConsumedLogResponseDto> getAllLogs(Long userId) {
-        List<ConsumedLogResponseDto> result = consumedLogRepository.findAllByUser_Id(userId).stream()
-                .map(ConsumedLogResponseDto::fromEntity) // 생성자를 통해 DTO로 변환
+        List<ConsumedLogResponseDto> result = consumedLogHistoryRepository.findPage(userId, null, null, MAX_ALL_LOGS).stream()
+                .map(ConsumedLogResponseDto::fromHistory)
                 .collect(Collectors.toList());
 
 
         return result;
     }
 
+    /**
+     * 사용 기록 조회 (사용 날짜 최신순 커서 페이지네이션)
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     * @throws BusinessLogicException INVALID_CURSOR 예외
+     */
+    public ConsumedLogPageResponseDto getHistory(Long userId, String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        LocalDateTime cursorConsumedDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            cursorConsumedDate = parseCursorValue(decoded[0], LocalDateTime::parse);
+            cursorId = parseCursorValue(decoded[1], Long::parseLong);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ConsumedLogHistoryResponseDto> page =
+                consumedLogHistoryRepository.findPage(userId, cursorConsumedDate, cursorId, size + 1);
+
+        boolean hasNext = page.size() > size;
+        List<ConsumedLogHistoryResponseDto> logs = hasNext ? page.subList(0, size) : page;
+
+        return ConsumedLogPageResponseDto.builder()
+                .logs(logs)
+                .nextCursor(hasNext ? encodeCursor(logs.get(logs.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 모든 사용 기록을 NDJSON (한 줄에 JSON 하나) 으로 출력
+     * DB 에서 한 행씩 읽어 바로 쓰므로 기록 수와 관계없이 메모리 사용량이 일정합니다.
+     */
+    public void exportLogs(Long userId, OutputStream out) {
+        consumedLogHistoryRepository.streamAll(userId, row -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            } catch (IOException e) {
+                // 클라이언트가 연결을 끊으면 조회를 중단
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private String encodeCursor(ConsumedLogHistoryResponseDto last) {
+        String raw = last.getConsumedDate().toString() + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    private <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.example.ingredients_ms.domain.consumedlog.controller;
 
 import com.example.ingredients_ms.domain.consumedlog.Service.ConsumedLogService;
+import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogPageResponseDto;
 import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogResponseDto;
 import com.example.ingredients_ms.domain.consumedlog.dto.response.MonthlyConsumedLogResponseDto;
 import com.example.ingredients_ms.global.jwt.TokenService;
@@ -8,7 +9,11 @@ import com.example.ingredients_ms.global.rsdata.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -79,7 +84,10 @@ public class ConsumedLogController {
         return new RsData<>("200","월별 식품 재고 사용량을 성공적으로 조회하였습니다.",responseDtos);
     }
 
-    @Operation(summary = "전체 식품 재고 사용량 조회", description = "식품 재고 사용량을 모두 조회합니다.")
+    @Operation(summary = "전체 식품 재고 사용량 조회",
+            description = "최근 식품 재고 사용량을 최대 1000건까지 조회합니다. 전체 기록은 /history 또는 /export 를 사용하세요.",
+            deprecated = true)
+    @Deprecated
     @GetMapping("/all")
     public RsData<List<ConsumedLogResponseDto>> getALlLogs(){
         Long userId = tokenService.getIdFromToken();
@@ -87,6 +95,27 @@ public class ConsumedLogController {
         return new RsData<>("200","모든 식품 재고 사용량을 성공적으로 조회하였습니다.",responseDtos);
     }
 
+    @Operation(summary = "식품 재고 사용 기록 조회", description = "식품 재고 사용 기록을 최신순으로 커서 페이지네이션하여 조회합니다.")
+    @GetMapping("/history")
+    public RsData<ConsumedLogPageResponseDto> getHistory(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size){
+        Long userId = tokenService.getIdFromToken();
+        ConsumedLogPageResponseDto responseDto = consumedLogService.getHistory(userId, cursor, size);
+        return new RsData<>("200","식품 재고 사용 기록을 성공적으로 조회하였습니다.",responseDto);
+    }
+
+    @Operation(summary = "식품 재고 사용 기록 내보내기", description = "모든 식품 재고 사용 기록을 NDJSON 으로 스트리밍합니다.")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportLogs(){
+        // 응답 본문은 요청 스레드가 끝난 뒤 작성되므로 사용자 ID 는 미리 꺼내 둠
+        Long userId = tokenService.getIdFromToken();
+        StreamingResponseBody body = out -> consumedLogService.exportLogs(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"consumed-log.ndjson\"")
+                .body(body);
+    }
+
 
 
 
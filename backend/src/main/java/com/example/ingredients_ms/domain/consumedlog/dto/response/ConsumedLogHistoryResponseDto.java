@@ -0,0 +1,24 @@
+package com.example.ingredients_ms.domain.consumedlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumedLogHistoryResponseDto {
+
+    private Long id;
+    private LocalDateTime consumedDate;
+    private Integer consumedQuantity; // 사용 개수
+    private Long inventoryId;
+    private String ingredientName;
+    private Long categoryId;
+    private String categoryName;
+
+}
@@ -0,0 +1,20 @@
+package com.example.ingredients_ms.domain.consumedlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ConsumedLogPageResponseDto {
+
+    // 현재 페이지의 사용 기록 (사용 날짜 최신순)
+    private List<ConsumedLogHistoryResponseDto> logs;
+
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+}
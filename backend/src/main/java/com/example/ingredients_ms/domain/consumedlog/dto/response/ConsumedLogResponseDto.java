@@ -28,4 +28,13 @@ public class ConsumedLogResponseDto {
 
     }
 
+    public static ConsumedLogResponseDto fromHistory(ConsumedLogHistoryResponseDto history){
+        return ConsumedLogResponseDto.builder()
+                .categoryId(history.getCategoryId())
+                .categoryName(history.getCategoryName())
+                .ingredientName(history.getIngredientName())
+                .totalConsumedQuantity(history.getConsumedQuantity())
+                .build();
+    }
+
 }
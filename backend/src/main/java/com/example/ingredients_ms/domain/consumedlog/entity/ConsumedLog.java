@@ -3,6 +3,7 @@ package com.example.ingredients_ms.domain.consumedlog.entity;
 import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,9 +15,12 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Getter
 @Setter
-@Table(name="consume_log")
+@Table(name="consume_log", indexes = {
+        @Index(name = "idx_consume_log_user_consumed_date_id", columnList = "user_id, consumed_date, id")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
@@ -0,0 +1,99 @@
+package com.example.ingredients_ms.domain.consumedlog.repository;
+
+import com.example.ingredients_ms.domain.consumedlog.dto.response.ConsumedLogHistoryResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 사용자의 식품 재고 사용 기록 조회
+ * 엔티티 대신 필요한 컬럼만 한 번의 JOIN 으로 읽고, (consumed_date, id) 키셋 페이지와 전체 내보내기용 스트리밍 조회를 제공합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConsumedLogHistoryRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT cl.id, cl.consumed_date, cl.consumed_quantity, cl.inventory_id,
+                   i.name AS ingredient_name, c.id AS category_id, c.name AS category_name
+            FROM consume_log cl
+            LEFT JOIN food_inventory fi ON fi.id = cl.inventory_id
+            LEFT JOIN ingredients i ON i.id = fi.ingredient_id
+            LEFT JOIN ingredient_categories c ON c.id = i.category_id
+            WHERE cl.user_id = ?
+            """;
+
+    private static final String ORDER_BY = " ORDER BY cl.consumed_date DESC, cl.id DESC";
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 메모리에 모두 받지 않고 한 행씩 읽어옴
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final RowMapper<ConsumedLogHistoryResponseDto> ROW_MAPPER = (rs, rowNum) -> map(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용 날짜 최신순 한 페이지 (커서가 없으면 첫 페이지)
+     *
+     * @param cursorConsumedDate 이전 페이지 마지막 기록의 사용 날짜
+     * @param cursorId           이전 페이지 마지막 기록의 ID
+     */
+    public List<ConsumedLogHistoryResponseDto> findPage(Long userId, LocalDateTime cursorConsumedDate, Long cursorId,
+                                                        int limit) {
+        if (cursorConsumedDate == null) {
+            return jdbcTemplate.query(SELECT_SQL + ORDER_BY + " LIMIT ?", ROW_MAPPER, userId, limit);
+        }
+        return jdbcTemplate.query(
+                SELECT_SQL + " AND (cl.consumed_date < ? OR (cl.consumed_date = ? AND cl.id < ?))" + ORDER_BY + " LIMIT ?",
+                ROW_MAPPER,
+                userId, Timestamp.valueOf(cursorConsumedDate), Timestamp.valueOf(cursorConsumedDate), cursorId, limit);
+    }
+
+    /**
+     * 기간 내 사용 기록 (사용 날짜 최신순)
+     */
+    public List<ConsumedLogHistoryResponseDto> findBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return jdbcTemplate.query(
+                SELECT_SQL + " AND cl.consumed_date BETWEEN ? AND ?" + ORDER_BY,
+                ROW_MAPPER,
+                userId, Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+    }
+
+    /**
+     * 사용자의 모든 사용 기록을 최신순으로 한 건씩 전달 (전진 전용 커서로 읽으므로 기록 수와 관계없이 메모리 사용량이 일정)
+     * 콜백이 끝날 때까지 DB 연결을 점유하므로 콜백에서는 다른 쿼리를 실행하지 않습니다.
+     */
+    public void streamAll(Long userId, Consumer<ConsumedLogHistoryResponseDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_SQL + ORDER_BY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAMING_FETCH_SIZE);
+            statement.setLong(1, userId);
+            return statement;
+        }, rs -> {
+            consumer.accept(map(rs));
+        });
+    }
+
+    private static ConsumedLogHistoryResponseDto map(ResultSet rs) throws SQLException {
+        Timestamp consumedDate = rs.getTimestamp("consumed_date");
+        return ConsumedLogHistoryResponseDto.builder()
+                .id(rs.getLong("id"))
+                .consumedDate(consumedDate == null ? null : consumedDate.toLocalDateTime())
+                .consumedQuantity(rs.getInt("consumed_quantity"))
+                .inventoryId(rs.getObject("inventory_id", Long.class))
+                .ingredientName(rs.getString("ingredient_name"))
+                .categoryId(rs.getObject("category_id", Long.class))
+                .categoryName(rs.getString("category_name"))
+                .build();
+    }
+}
@@ -10,22 +10,14 @@ import java.util.List;
 
 public interface ConsumedLogRepository extends JpaRepository <ConsumedLog, Long> {
 
-    // 이번년도 월별 카테고리별 사용량 조회 (단위: g)
-    @Query("SELECT MONTH(cl.consumedDate) as month, " +
-           "cl.inventory.ingredient.category.id as categoryId, " +
-           "cl.inventory.ingredient.category.name as categoryName, " +
-           "SUM(cl.consumedQuantity) as totalConsumedQuantity " +
-           "FROM ConsumedLog cl " +
-           "WHERE cl.user.id = :userId " +
-           "AND YEAR(cl.consumedDate) = :year " +
-           "GROUP BY MONTH(cl.consumedDate), cl.inventory.ingredient.category.id, cl.inventory.ingredient.category.name " +
-           "ORDER BY MONTH(cl.consumedDate), cl.inventory.ingredient.category.id")
-    List<Object[]> findMonthlyConsumedQuantityByCategory(
-            @Param("userId") Long userId,
-            @Param("year") int year);
-
-    List<ConsumedLog> findAllByUser_Id(Long userId);
-
-    List<ConsumedLog> findByUser_IdAndConsumedDateBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+    // DTO 변환 시 재고 → 식재료 → 카테고리를 행마다 다시 조회하지 않도록 함께 가져옴
+    @Query("""
+            SELECT cl FROM ConsumedLog cl
+            LEFT JOIN FETCH cl.inventory fi LEFT JOIN FETCH fi.ingredient i LEFT JOIN FETCH i.category
+            WHERE cl.user.id = :userId AND cl.consumedDate BETWEEN :startDate AND :endDate
+        """)
+    List<ConsumedLog> findByUser_IdAndConsumedDateBetween(@Param("userId") Long userId,
+                                                         @Param("startDate") LocalDateTime startDate,
+                                                         @Param("endDate") LocalDateTime endDate);
 
 }
@@ -1,6 +1,7 @@
 package com.example.ingredients_ms.domain.diet.controller;
 
 import com.example.ingredients_ms.domain.diet.dto.response.DietStatisticsResponseDto;
+import com.example.ingredients_ms.domain.diet.dto.response.DietStatisticsSummaryResponseDto;
 import com.example.ingredients_ms.domain.diet.dto.response.WeekStatisticsResponseDto;
 import com.example.ingredients_ms.domain.diet.service.DietStatisticsService;
 import com.example.ingredients_ms.global.rsdata.RsData;
@@ -20,6 +21,13 @@ public class DietStatisticsController {
 
     private final DietStatisticsService dietStatisticsService;
 
+    // 주간/월간/3개월/연간 통계 + 최근 7일 그래프를 한 번에 조회
+    @GetMapping("/summary")
+    public RsData<?> getSummaryStatistics(@CurrentUser SecurityUser securityUser) {
+        DietStatisticsSummaryResponseDto responseDto = dietStatisticsService.summaryStatistics(securityUser.getId());
+        return new RsData<>("200", "식단 통계를 조회하였습니다.", responseDto);
+    }
+
     // 월간 칼로리 통계 기능 + 지난달에 비해 증가/감소량
     @GetMapping("/month")
     public RsData<?> getMonthStatistics(
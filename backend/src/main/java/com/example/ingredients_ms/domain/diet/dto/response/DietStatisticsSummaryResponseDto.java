@@ -0,0 +1,18 @@
+package com.example.ingredients_ms.domain.diet.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DietStatisticsSummaryResponseDto {
+    private DietStatisticsResponseDto week;
+    private DietStatisticsResponseDto month;
+    private DietStatisticsResponseDto quarter;
+    private DietStatisticsResponseDto year;
+    private List<WeekStatisticsResponseDto> weekGraph; // 최근 7일
+}
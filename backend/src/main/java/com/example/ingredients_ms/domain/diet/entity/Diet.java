@@ -2,6 +2,7 @@ package com.example.ingredients_ms.domain.diet.entity;
 
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Table(name = "diet")
 @Getter
 @Setter
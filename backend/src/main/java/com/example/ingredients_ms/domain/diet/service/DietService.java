@@ -10,6 +10,7 @@ import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.domain.user.repository.UserRepository;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupTracker;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,7 @@ public class DietService {
 
     private final DietRepository dietRepository;
     private final UserRepository userRepository;
+    private final StatisticsRollupTracker statisticsRollupTracker;
 
     @Transactional
     public void addDiet(Long userId, CreateDietRequestDto requestDto){
@@ -93,6 +95,9 @@ public class DietService {
             throw new BusinessLogicException(NOT_OWNER);
         }
 
+        // 날짜가 바뀌면 엔티티 훅은 새 날짜만 알 수 있으므로 이전 날짜 집계도 다시 계산하도록 기록
+        statisticsRollupTracker.markUserDiet(userId, diet.getDate());
+
         diet.setMenu(requestDto.getMenu());
         diet.setDate(requestDto.getDate());
         diet.setKcal(requestDto.getKcal());
@@ -1,149 +1,99 @@
 package com.example.ingredients_ms.domain.diet.service;
 
 import com.example.ingredients_ms.domain.diet.dto.response.DietStatisticsResponseDto;
+import com.example.ingredients_ms.domain.diet.dto.response.DietStatisticsSummaryResponseDto;
 import com.example.ingredients_ms.domain.diet.dto.response.WeekStatisticsResponseDto;
-import com.example.ingredients_ms.domain.diet.entity.Diet;
-import com.example.ingredients_ms.domain.diet.repository.DietRepository;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupRepository;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupRepository.DateRange;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupRepository.DietSum;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.YearMonth;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
+/**
+ * 식단 칼로리 통계
+ * 모든 기간을 사용자별 일별 집계(stat_daily_user_diet)에서 구간별 조건부 합계 한 번으로 계산합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class DietStatisticsService {
 
-    private final DietRepository dietRepository;
+    private static final int GRAPH_DAYS = 7;
 
+    private final StatisticsRollupRepository statisticsRollupRepository;
+
+    /**
+     * 주간/월간/3개월/연간 통계와 최근 7일 그래프를 한 번에 조회
+     */
     @Transactional
-    public DietStatisticsResponseDto monthStatistics(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        YearMonth currentMonth = YearMonth.from(now);
-        YearMonth prevMonth = currentMonth.minusMonths(1);
-
-        // 이번 달 데이터
-        List<Diet> currentMonthDiets = dietRepository.findByUserIdAndDateBetween(
-                userId,
-                currentMonth.atDay(1).atStartOfDay(),
-                currentMonth.atEndOfMonth().atTime(23, 59, 59)
-        );
-
-        // 지난 달 데이터
-        List<Diet> prevMonthDiets = dietRepository.findByUserIdAndDateBetween(
-                userId,
-                prevMonth.atDay(1).atStartOfDay(),
-                prevMonth.atEndOfMonth().atTime(23, 59, 59)
-        );
-
-        double currentAvg = currentMonthDiets.stream()
-                .mapToInt(Diet::getKcal)
-                .average()
-                .orElse(0);
-
-        double prevAvg = prevMonthDiets.stream()
-                .mapToInt(Diet::getKcal)
-                .average()
-                .orElse(0);
-
-        // 증감 계산 (지난달이 0이어도 값 채워주기)
-        double diff = currentAvg - prevAvg;
-        double diffRate = (prevAvg == 0) ? 0 : (diff / prevAvg) * 100.0;
+    public DietStatisticsSummaryResponseDto summaryStatistics(Long userId) {
+        LocalDate today = LocalDate.now();
 
-        return DietStatisticsResponseDto.builder()
-                .averageKcal(currentAvg)
-                .diffFromLast(diff)
-                .diffRate(diffRate)
+        List<DateRange> ranges = new ArrayList<>();
+        for (Theme theme : Theme.values()) {
+            ranges.add(theme.current(today));
+            ranges.add(theme.previous(today));
+        }
+        ranges.addAll(graphRanges(today));
+
+        List<DietSum> sums = statisticsRollupRepository.sumUserDietByRanges(userId, ranges);
+        int graphOffset = Theme.values().length * 2;
+
+        return DietStatisticsSummaryResponseDto.builder()
+                .week(toResponse(sums, Theme.WEEK.ordinal() * 2))
+                .month(toResponse(sums, Theme.MONTH.ordinal() * 2))
+                .quarter(toResponse(sums, Theme.QUARTER.ordinal() * 2))
+                .year(toResponse(sums, Theme.YEAR.ordinal() * 2))
+                .weekGraph(toGraph(today, sums.subList(graphOffset, graphOffset + GRAPH_DAYS)))
                 .build();
     }
 
+    @Transactional
+    public DietStatisticsResponseDto monthStatistics(Long userId) {
+        return statistics(userId, Theme.MONTH);
+    }
+
     @Transactional
     public List<WeekStatisticsResponseDto> weekGraphStatistics(Long userId) {
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.minusDays(6);
-
-        List<Diet> weekDiets = dietRepository.findByUserIdAndDateBetween(
-                userId,
-                startDate.atStartOfDay(),
-                today.atTime(23, 59, 59)
-        );
-
-        Map<LocalDate, Double> dailyAvgMap = weekDiets.stream()
-                .collect(Collectors.groupingBy(
-                        diet -> diet.getDate().toLocalDate(),
-                        Collectors.averagingInt(Diet::getKcal)
-                ));
-
-        List<WeekStatisticsResponseDto> result = new ArrayList<>();
-        for (int i = 0; i < 7; i++) {
-            LocalDate date = startDate.plusDays(i);
-            double avgKcal = dailyAvgMap.getOrDefault(date, 0.0);
-            result.add(new WeekStatisticsResponseDto(date, avgKcal));
-        }
-
-        return result;
+        return toGraph(today, statisticsRollupRepository.sumUserDietByRanges(userId, graphRanges(today)));
     }
 
     @Transactional
     public DietStatisticsResponseDto quarterStatistics(Long userId) {
-        LocalDate now = LocalDate.now();
-        int currentQuarter = (now.getMonthValue() - 1) / 3 + 1;
-        int prevQuarter = (currentQuarter == 1) ? 4 : currentQuarter - 1;
-        int year = now.getYear();
-        int prevYear = (currentQuarter == 1) ? year - 1 : year;
-
-        // 이번 분기 기간
-        LocalDate quarterStart = LocalDate.of(year, (currentQuarter - 1) * 3 + 1, 1);
-        LocalDate quarterEnd = quarterStart.plusMonths(3).minusDays(1);
-
-        // 지난 분기 기간
-        LocalDate prevQuarterStart = LocalDate.of(prevYear, (prevQuarter - 1) * 3 + 1, 1);
-        LocalDate prevQuarterEnd = prevQuarterStart.plusMonths(3).minusDays(1);
-
-        // 데이터 조회
-        List<Diet> currentQuarterDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, quarterStart.atStartOfDay(), quarterEnd.atTime(23, 59, 59));
-        List<Diet> prevQuarterDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, prevQuarterStart.atStartOfDay(), prevQuarterEnd.atTime(23, 59, 59));
-
-        double currentAvg = currentQuarterDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
-        double prevAvg = prevQuarterDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
-
-        double diff = currentAvg - prevAvg;
-        double diffRate = (prevAvg == 0) ? 0 : (diff / prevAvg) * 100.0;
-
-        return DietStatisticsResponseDto.builder()
-                .averageKcal(currentAvg)
-                .diffFromLast(diff)
-                .diffRate(diffRate)
-                .build();
+        return statistics(userId, Theme.QUARTER);
     }
 
     @Transactional
     public DietStatisticsResponseDto yearStatistics(Long userId) {
-        int year = LocalDate.now().getYear();
-        int prevYear = year - 1;
-
-        LocalDate yearStart = LocalDate.of(year, 1, 1);
-        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        return statistics(userId, Theme.YEAR);
+    }
 
-        LocalDate prevYearStart = LocalDate.of(prevYear, 1, 1);
-        LocalDate prevYearEnd = LocalDate.of(prevYear, 12, 31);
+    @Transactional
+    public DietStatisticsResponseDto weekStatistics(Long userId) {
+        return statistics(userId, Theme.WEEK);
+    }
 
-        List<Diet> currentYearDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, yearStart.atStartOfDay(), yearEnd.atTime(23, 59, 59));
-        List<Diet> prevYearDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, prevYearStart.atStartOfDay(), prevYearEnd.atTime(23, 59, 59));
+    private DietStatisticsResponseDto statistics(Long userId, Theme theme) {
+        LocalDate today = LocalDate.now();
+        List<DietSum> sums = statisticsRollupRepository.sumUserDietByRanges(
+                userId, List.of(theme.current(today), theme.previous(today)));
+        return toResponse(sums, 0);
+    }
 
-        double currentAvg = currentYearDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
-        double prevAvg = prevYearDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
+    // sums[index] 는 현재 기간, sums[index + 1] 은 이전 기간
+    private static DietStatisticsResponseDto toResponse(List<DietSum> sums, int index) {
+        double currentAvg = sums.get(index).averageKcal();
+        double prevAvg = sums.get(index + 1).averageKcal();
 
+        // 증감 계산 (이전 기간이 0이어도 값 채워주기)
         double diff = currentAvg - prevAvg;
         double diffRate = (prevAvg == 0) ? 0 : (diff / prevAvg) * 100.0;
 
@@ -154,33 +104,51 @@ public class DietStatisticsService {
                 .build();
     }
 
-    @Transactional
-    public DietStatisticsResponseDto weekStatistics(Long userId) {
-        LocalDate today = LocalDate.now();
-
-        // 이번 주 (월요일 ~ 일요일)
-        LocalDate weekStart = today.with(java.time.DayOfWeek.MONDAY);
-        LocalDate weekEnd = weekStart.plusDays(6);
-
-        // 지난 주
-        LocalDate prevWeekStart = weekStart.minusWeeks(1);
-        LocalDate prevWeekEnd = prevWeekStart.plusDays(6);
+    // 오늘을 포함한 최근 7일 (하루씩)
+    private static List<DateRange> graphRanges(LocalDate today) {
+        LocalDate startDate = today.minusDays(GRAPH_DAYS - 1);
+        List<DateRange> ranges = new ArrayList<>(GRAPH_DAYS);
+        for (int i = 0; i < GRAPH_DAYS; i++) {
+            LocalDate date = startDate.plusDays(i);
+            ranges.add(new DateRange(date, date));
+        }
+        return ranges;
+    }
 
-        List<Diet> currentWeekDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, weekStart.atStartOfDay(), weekEnd.atTime(23, 59, 59));
-        List<Diet> prevWeekDiets = dietRepository.findByUserIdAndDateBetween(
-                userId, prevWeekStart.atStartOfDay(), prevWeekEnd.atTime(23, 59, 59));
+    private static List<WeekStatisticsResponseDto> toGraph(LocalDate today, List<DietSum> dailySums) {
+        LocalDate startDate = today.minusDays(GRAPH_DAYS - 1);
+        List<WeekStatisticsResponseDto> result = new ArrayList<>(GRAPH_DAYS);
+        for (int i = 0; i < GRAPH_DAYS; i++) {
+            result.add(new WeekStatisticsResponseDto(startDate.plusDays(i), dailySums.get(i).averageKcal()));
+        }
+        return result;
+    }
 
-        double currentAvg = currentWeekDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
-        double prevAvg = prevWeekDiets.stream().mapToInt(Diet::getKcal).average().orElse(0);
+    /**
+     * 달력 기준 통계 기간 (이번 주는 월요일 ~ 일요일, 3개월은 분기)
+     */
+    private enum Theme {
+        WEEK(Period.ofWeeks(1), date -> date.with(DayOfWeek.MONDAY)),
+        MONTH(Period.ofMonths(1), date -> date.withDayOfMonth(1)),
+        QUARTER(Period.ofMonths(3), date -> date.withMonth((date.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1)),
+        YEAR(Period.ofYears(1), date -> date.withDayOfYear(1));
+
+        private final Period length;
+        private final UnaryOperator<LocalDate> startOf;
+
+        Theme(Period length, UnaryOperator<LocalDate> startOf) {
+            this.length = length;
+            this.startOf = startOf;
+        }
 
-        double diff = currentAvg - prevAvg;
-        double diffRate = (prevAvg == 0) ? 0 : (diff / prevAvg) * 100.0;
+        DateRange current(LocalDate today) {
+            LocalDate start = startOf.apply(today);
+            return new DateRange(start, start.plus(length).minusDays(1));
+        }
 
-        return DietStatisticsResponseDto.builder()
-                .averageKcal(currentAvg)
-                .diffFromLast(diff)
-                .diffRate(diffRate)
-                .build();
+        DateRange previous(LocalDate today) {
+            LocalDate start = startOf.apply(today).minus(length);
+            return new DateRange(start, start.plus(length).minusDays(1));
+        }
     }
 }
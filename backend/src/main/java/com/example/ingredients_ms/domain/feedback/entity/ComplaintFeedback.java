@@ -3,11 +3,13 @@ package com.example.ingredients_ms.domain.feedback.entity;
 import com.example.ingredients_ms.domain.complaint.entity.Complaint;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Getter
 @Setter
 @Table(name="complaint_feedback")
@@ -0,0 +1,32 @@
+package com.example.ingredients_ms.domain.foodinventory.event;
+
+import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
+import com.example.ingredients_ms.domain.foodinventory.entity.FoodStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식품 재고 생성/수정/삭제 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class FoodInventoryChangedEvent {
+
+    private final Long inventoryId;
+    private final Long userId;
+    private final LocalDateTime expirationDate;
+    private final FoodStatus status;
+    private final boolean deleted;
+
+    public static FoodInventoryChangedEvent of(FoodInventory inventory) {
+        return new FoodInventoryChangedEvent(
+                inventory.getId(),
+                inventory.getUser().getId(),
+                inventory.getExpirationDate(),
+                inventory.getStatus(),
+                inventory.isDeleted()
+        );
+    }
+}
@@ -18,6 +18,21 @@ public interface FoodInventoryRepository extends JpaRepository<FoodInventory, Lo
 
     List<FoodInventory> findByUser_IdAndIsDeletedFalseOrderById(Long userId);
 
+    // 레시피 추천용 보유 식재료 정보
+    interface InventoryIngredientProjection {
+        Long getIngredientId();
+        FoodStatus getStatus();
+        LocalDateTime getExpirationDate();
+    }
+
+    @Query("""
+            SELECT fi.ingredient.id AS ingredientId, fi.status AS status, fi.expirationDate AS expirationDate
+            FROM FoodInventory fi
+            WHERE fi.user.id = :userId AND fi.isDeleted = false AND fi.status IN :statuses
+        """)
+    List<InventoryIngredientProjection> findInventoryIngredientsByUserId(@Param("userId") Long userId,
+                                                                        @Param("statuses") List<FoodStatus> statuses);
+
     Optional<FoodInventory> findByUser_IdAndIdAndIsDeletedFalse(Long userId, Long id);
 
     List<FoodInventory> findByUser_IdAndIngredient_Category_IdAndIsDeletedFalseOrderById(Long userId, Long categoryId);
@@ -27,14 +42,58 @@ public interface FoodInventoryRepository extends JpaRepository<FoodInventory, Lo
     List<FoodInventory> findByUser_IdAndStatus(Long userId, FoodStatus status);
 
 
-    // 만료 임박 식재료 조회 (3일 이내)
-    @Query("SELECT fi FROM FoodInventory fi WHERE fi.status = 'NORMAL' AND fi.expirationDate <= :threeDaysLater AND fi.expirationDate > :now")
-    List<FoodInventory> findExpiringSoonIngredients(@Param("now") LocalDateTime now, @Param("threeDaysLater") LocalDateTime threeDaysLater);
+    // 만료 스케줄 구성용 (삭제되지 않은 보관중/임박 재고)
+    interface ExpirationScheduleProjection {
+        Long getId();
+        Long getUserId();
+        LocalDateTime getExpirationDate();
+        FoodStatus getStatus();
+    }
+
+    @Query("""
+            SELECT fi.id AS id, fi.user.id AS userId, fi.expirationDate AS expirationDate, fi.status AS status
+            FROM FoodInventory fi
+            WHERE fi.isDeleted = false AND fi.status IN :statuses
+        """)
+    List<ExpirationScheduleProjection> findExpirationSchedules(@Param("statuses") List<FoodStatus> statuses);
+
+    // 상태 전이 대상 재고 (알람 생성에 필요한 정보 포함)
+    interface ExpirationCandidateProjection {
+        Long getId();
+        Long getUserId();
+        String getIngredientName();
+        LocalDateTime getExpirationDate();
+    }
 
-    // 만료된 식재료 조회 (오늘 날짜 포함하여 만료된 것들)
-    // 내일 자정 이전의 식재료를 만료로 처리 (오늘 날짜까지 포함)
-    @Query("SELECT fi FROM FoodInventory fi WHERE fi.status = 'NORMAL' AND fi.expirationDate < :startOfTomorrow")
-    List<FoodInventory> findExpiredIngredients(@Param("startOfTomorrow") LocalDateTime startOfTomorrow);
+    // 만료 임박 전이 대상 잠금 조회 (3일 이내, 보관중 상태만)
+    @Query(value = """
+            SELECT fi.id AS id, fi.user_id AS userId, i.name AS ingredientName, fi.expiration_date AS expirationDate
+            FROM food_inventory fi
+            JOIN ingredients i ON i.id = fi.ingredient_id
+            WHERE fi.id IN (:ids)
+              AND fi.is_deleted = FALSE
+              AND fi.status = 'NORMAL'
+              AND fi.expiration_date > :now
+              AND fi.expiration_date <= :threeDaysLater
+            FOR UPDATE OF fi
+        """, nativeQuery = true)
+    List<ExpirationCandidateProjection> lockExpiringSoonCandidates(@Param("ids") List<Long> ids,
+                                                                   @Param("now") LocalDateTime now,
+                                                                   @Param("threeDaysLater") LocalDateTime threeDaysLater);
+
+    // 만료 전이 대상 잠금 조회 (오늘 날짜까지 만료된 보관중/임박 재고)
+    @Query(value = """
+            SELECT fi.id AS id, fi.user_id AS userId, i.name AS ingredientName, fi.expiration_date AS expirationDate
+            FROM food_inventory fi
+            JOIN ingredients i ON i.id = fi.ingredient_id
+            WHERE fi.id IN (:ids)
+              AND fi.is_deleted = FALSE
+              AND fi.status IN ('NORMAL', 'EXPIRING_SOON')
+              AND fi.expiration_date < :startOfTomorrow
+            FOR UPDATE OF fi
+        """, nativeQuery = true)
+    List<ExpirationCandidateProjection> lockExpiredCandidates(@Param("ids") List<Long> ids,
+                                                              @Param("startOfTomorrow") LocalDateTime startOfTomorrow);
 
     // 상태별 식재료 조회
     List<FoodInventory> findByStatus(FoodStatus status);
@@ -10,6 +10,7 @@ import com.example.ingredients_ms.domain.consumedlog.entity.ConsumedLog;
 import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
 import com.example.ingredients_ms.domain.foodinventory.entity.FoodStatus;
 import com.example.ingredients_ms.domain.foodinventory.entity.Place;
+import com.example.ingredients_ms.domain.foodinventory.event.FoodInventoryChangedEvent;
 import com.example.ingredients_ms.domain.consumedlog.repository.ConsumedLogRepository;
 import com.example.ingredients_ms.domain.foodinventory.repository.FoodInventoryRepository;
 import com.example.ingredients_ms.domain.ingredients.entity.Ingredients;
@@ -19,6 +20,7 @@ import com.example.ingredients_ms.domain.user.repository.UserRepository;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +37,7 @@ public class FoodInventoryService {
     private final UserRepository userRepository;
     private final IngredientsRepository ingredientsRepository;
     private final ConsumedLogRepository consumedLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 새로운 재료를 냉장고에 등록합니다. 환영 파티라도 열어야 할까요?
     @Transactional
@@ -59,6 +62,7 @@ public class FoodInventoryService {
 
         // 저장
         FoodInventory savedFoodInventory = foodInventoryRepository.save(foodInventory);
+        eventPublisher.publishEvent(FoodInventoryChangedEvent.of(savedFoodInventory));
         return FoodInventoryResponseDto.fromEntity(savedFoodInventory);
     }
 
@@ -118,6 +122,7 @@ public class FoodInventoryService {
         foodInventory.setPlace(requestDto.getPlace());
 
         FoodInventory updatedFoodInventory = foodInventoryRepository.save(foodInventory);
+        eventPublisher.publishEvent(FoodInventoryChangedEvent.of(updatedFoodInventory));
         return FoodInventoryResponseDto.fromEntity(updatedFoodInventory);
     }
 
@@ -144,6 +149,8 @@ public class FoodInventoryService {
             foodInventory.setStatus(FoodStatus.CONSUMED);
         }
 
+        eventPublisher.publishEvent(FoodInventoryChangedEvent.of(foodInventory));
+
         return FoodInventoryResponseDto.fromEntity(foodInventory);
     }
 
@@ -157,6 +164,7 @@ public class FoodInventoryService {
         inventory.delete();
 
         foodInventoryRepository.save(inventory);
+        eventPublisher.publishEvent(FoodInventoryChangedEvent.of(inventory));
     }
 
     @Transactional
@@ -167,6 +175,7 @@ public class FoodInventoryService {
         foodInventory.updateStatus(status);
 
         FoodInventory updatedFoodInventory = foodInventoryRepository.save(foodInventory);
+        eventPublisher.publishEvent(FoodInventoryChangedEvent.of(updatedFoodInventory));
         return FoodInventoryResponseDto.fromEntity(updatedFoodInventory);
     }
 
@@ -0,0 +1,144 @@
+package com.example.ingredients_ms.domain.foodinventory.service;
+
+import com.example.ingredients_ms.domain.foodinventory.entity.FoodStatus;
+import com.example.ingredients_ms.domain.foodinventory.event.FoodInventoryChangedEvent;
+import com.example.ingredients_ms.domain.foodinventory.repository.FoodInventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 보유 식재료 벡터 캐시 (레시피 추천용)
+ * 재고가 바뀌면 커밋 직후 해당 사용자의 항목을 무효화하고, 다음 조회 때 한 번의 쿼리로 다시 채웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserInventoryCache {
+
+    // 유통기한이 이 기간 안으로 남으면 임박으로 취급 (스케줄러의 EXPIRING_SOON 기준과 동일)
+    private static final long EXPIRING_SOON_DAYS = 3;
+
+    private final FoodInventoryRepository foodInventoryRepository;
+
+    @Value("${custom.recommendation.inventory-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${custom.recommendation.inventory-cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<Long, InventoryVector> vectors = new ConcurrentHashMap<>();
+
+    // 사용자 ID -> 마지막 무효화 시각(nanoTime). 로딩 도중 무효화된 오래된 값이 캐시에 들어가지 않도록 비교에 사용
+    private final ConcurrentHashMap<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 보유 식재료 벡터를 반환합니다. 캐시에 없거나 만료됐으면 DB에서 다시 읽습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public InventoryVector get(Long userId) {
+        InventoryVector cached = vectors.get(userId);
+        if (cached != null && !cached.isExpired(System.nanoTime(), ttlMillis)) {
+            return cached;
+        }
+
+        long loadStartedAt = System.nanoTime();
+        InventoryVector loaded = load(userId, loadStartedAt);
+
+        Long lastInvalidation = invalidatedAt.get(userId);
+        if (lastInvalidation == null || lastInvalidation - loadStartedAt < 0) {
+            if (vectors.size() >= maxSize) {
+                evictExpired();
+            }
+            if (vectors.size() < maxSize) {
+                vectors.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long userId) {
+        invalidatedAt.put(userId, System.nanoTime());
+        vectors.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFoodInventoryChanged(FoodInventoryChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 만료된 캐시 항목과 오래된 무효화 기록 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        vectors.values().removeIf(vector -> vector.isExpired(now, ttlMillis));
+        invalidatedAt.values().removeIf(at -> now - at > ttlMillis * 1_000_000L);
+    }
+
+    private InventoryVector load(Long userId, long loadedAt) {
+        // 식재료별로 가장 빠른 유통기한만 유지
+        Map<Long, LocalDateTime> earliestExpiration = new HashMap<>();
+        Set<Long> expiringSoonIds = new HashSet<>();
+
+        for (FoodInventoryRepository.InventoryIngredientProjection item : foodInventoryRepository
+                .findInventoryIngredientsByUserId(userId, List.of(FoodStatus.NORMAL, FoodStatus.EXPIRING_SOON))) {
+            earliestExpiration.merge(item.getIngredientId(), item.getExpirationDate(),
+                    (a, b) -> a.isBefore(b) ? a : b);
+            if (item.getStatus() == FoodStatus.EXPIRING_SOON) {
+                expiringSoonIds.add(item.getIngredientId());
+            }
+        }
+
+        return new InventoryVector(earliestExpiration, expiringSoonIds, loadedAt);
+    }
+
+    /**
+     * 사용자의 보유 식재료와 식재료별 가장 빠른 유통기한
+     */
+    public static class InventoryVector {
+
+        private final Map<Long, LocalDateTime> earliestExpiration;
+        private final Set<Long> expiringSoonIds;
+        private final long loadedAt;
+
+        InventoryVector(Map<Long, LocalDateTime> earliestExpiration, Set<Long> expiringSoonIds, long loadedAt) {
+            this.earliestExpiration = Map.copyOf(earliestExpiration);
+            this.expiringSoonIds = Set.copyOf(expiringSoonIds);
+            this.loadedAt = loadedAt;
+        }
+
+        public Set<Long> getIngredientIds() {
+            return earliestExpiration.keySet();
+        }
+
+        /**
+         * 유통기한 임박 식재료 ID
+         * 스케줄러가 아직 상태를 바꾸지 않았더라도 유통기한이 3일 이내면 임박으로 봅니다.
+         */
+        public Set<Long> getExpiringSoonIngredientIds(LocalDateTime now) {
+            LocalDateTime limit = now.plusDays(EXPIRING_SOON_DAYS);
+            Set<Long> result = new HashSet<>(expiringSoonIds);
+            earliestExpiration.forEach((ingredientId, expiration) -> {
+                if (!expiration.isAfter(limit)) {
+                    result.add(ingredientId);
+                }
+            });
+            return result;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return now - loadedAt > ttlMillis * 1_000_000L;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.ingredients_ms.domain.ingredients.entity;
 import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
 import com.example.ingredients_ms.domain.ingredientscategory.entity.IngredientsCategory;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -11,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Getter
 @Setter
 @Table(name="ingredients")
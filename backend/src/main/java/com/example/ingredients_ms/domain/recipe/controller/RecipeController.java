@@ -2,8 +2,6 @@ package com.example.ingredients_ms.domain.recipe.controller;
 
 import com.example.ingredients_ms.domain.recipe.dto.request.CreateRecipeRequestDto;
 import com.example.ingredients_ms.domain.recipe.service.RecipeService;
-import com.example.ingredients_ms.domain.user.entity.User;
-import com.example.ingredients_ms.domain.user.repository.UserRepository;
 import com.example.ingredients_ms.domain.useractivity.service.UserActivityService;
 import com.example.ingredients_ms.global.rsdata.RsData;
 import com.example.ingredients_ms.global.security.CurrentUser;
@@ -22,7 +20,6 @@ public class RecipeController {
 
     private final RecipeService recipeService;
     private final UserActivityService userActivityService;
-    private final UserRepository userRepository;
 
     @PostMapping(value = "/", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public RsData<?> createRecipe(
@@ -35,10 +32,7 @@ public class RecipeController {
         
         // 레시피 생성 활동 로그 기록
         if (result.getResultCode().startsWith("2")) { // 성공 시
-            User user = userRepository.findById(securityUser.getId()).orElse(null);
-            if (user != null) {
-                userActivityService.logRecipeCreate(user, 0L, requestDto.getTitle()); // recipeId는 생성 후에 알 수 있음
-            }
+            userActivityService.logRecipeCreate(securityUser.getId(), 0L, requestDto.getTitle()); // recipeId는 생성 후에 알 수 있음
         }
         
         return result;
@@ -49,16 +43,20 @@ public class RecipeController {
         return recipeService.findAllRecipe();
     }
 
+    @GetMapping("/feed")
+    public RsData<?> findRecipeFeed(@RequestParam(value = "sort", defaultValue = "latest") String sort,
+                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                    @RequestParam(value = "size", defaultValue = "20") int size){
+        return recipeService.findRecipeFeed(sort, cursor, size);
+    }
+
     @GetMapping("/detail/{recipeId}")
     public RsData<?> recipeDetail(@PathVariable("recipeId") Long recipeId, @CurrentUser SecurityUser securityUser){
         // 레시피 조회 활동 로그 기록
         if (securityUser != null) {
-            User user = userRepository.findById(securityUser.getId()).orElse(null);
-            if (user != null) {
-                // 레시피 제목을 가져오기 위해 임시로 "레시피 조회"로 설정
-                // 실제로는 RecipeService에서 레시피 정보를 가져와서 제목을 사용해야 함
-                userActivityService.logRecipeView(user, recipeId, "레시피 조회");
-            }
+            // 레시피 제목을 가져오기 위해 임시로 "레시피 조회"로 설정
+            // 실제로는 RecipeService에서 레시피 정보를 가져와서 제목을 사용해야 함
+            userActivityService.logRecipeView(securityUser.getId(), recipeId, "레시피 조회");
         }
         
         return recipeService.findRecipeById(recipeId);
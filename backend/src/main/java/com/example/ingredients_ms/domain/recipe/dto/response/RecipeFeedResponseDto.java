@@ -0,0 +1,24 @@
+package com.example.ingredients_ms.domain.recipe.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Data
+@Getter
+@Setter
+@Builder
+public class RecipeFeedResponseDto {
+
+    // 현재 페이지의 레시피 목록
+    private List<AllRecipeResponseDto> recipes;
+
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+}
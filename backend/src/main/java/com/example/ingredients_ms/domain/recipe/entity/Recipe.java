@@ -5,6 +5,7 @@ import com.example.ingredients_ms.domain.recipelike.entity.RecipeLike;
 import com.example.ingredients_ms.domain.recipestep.entity.RecipeStep;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,7 +16,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "recipe")
+@EntityListeners(StatisticsRollupEntityListener.class)
+@Table(name = "recipe", indexes = {
+        @Index(name = "idx_recipe_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_recipe_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_recipe_view_count_id", columnList = "view_count, id")
+})
 @SuperBuilder
 @NoArgsConstructor
 @Getter
@@ -70,13 +76,4 @@ public class Recipe extends BaseEntity {
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL)
     private List<RecipeLike> recipeLikes = new ArrayList<>();
 
-    // 좋아요 증감 메서드
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        this.likeCount--;
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.ingredients_ms.domain.recipe.entity;
+
+import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum RecipeFeedSort {
+
+    // 최신순, 좋아요순, 조회수순
+    LATEST("latest"),
+    LIKE("like"),
+    VIEW("view");
+
+    private final String value;
+
+    RecipeFeedSort(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public static RecipeFeedSort fromValue(String value) {
+        for (RecipeFeedSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_SORT_TYPE);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.ingredients_ms.domain.recipe.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 레시피 생성 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeCreatedEvent {
+
+    private final Long recipeId;
+    private final String title;
+    private final Integer cookingTime;
+    private final String imageUrl;
+    private final Integer difficultyLevel;
+
+    // 레시피에 사용된 식재료 ID 목록
+    private final List<Long> ingredientIds;
+}
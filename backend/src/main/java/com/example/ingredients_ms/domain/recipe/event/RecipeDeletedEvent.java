@@ -0,0 +1,14 @@
+package com.example.ingredients_ms.domain.recipe.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 레시피 삭제 이벤트 (트랜잭션 커밋 이후 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeDeletedEvent {
+
+    private final Long recipeId;
+}
@@ -1,46 +1,91 @@
 package com.example.ingredients_ms.domain.recipe.repository;
 
 import com.example.ingredients_ms.domain.recipe.entity.Recipe;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecipeRepository extends JpaRepository<Recipe,Long> {
 
-    /**
-     * 조회수를 1 증가시킵니다 (DB 레벨에서 처리)
-     * @param recipeId 레시피 ID
-     */
-    @Modifying
-    @Query("UPDATE Recipe r SET r.viewCount = r.viewCount + 1 WHERE r.id = :recipeId")
-    void incrementViewCount(@Param("recipeId") Long recipeId);
-
-    // 사용자가 보유한 식재료로만 만들 수 있는 레시피 조회
-    @Query(value = """
-            SELECT
-                r.*
-            FROM
-                Recipe r
-            JOIN
-                recipe_ingredient ri ON r.id = ri.recipe_id
-            WHERE
-                ri.ingredient_id IN (:ingredientIds)
-            GROUP BY
-                r.id
-            HAVING
-                COUNT(DISTINCT ri.ingredient_id) / (
-                    SELECT COUNT(ri2.ingredient_id)
-                    FROM recipe_ingredient ri2
-                    WHERE ri2.recipe_id = r.id
-                ) >= 0.7
-            ORDER BY
-                r.like_count DESC, r.view_count DESC
-        """, nativeQuery = true)
-    List<Recipe> findRecipesByAvailableIngredients(@Param("ingredientIds") List<Long> ingredientIds);
+    // 추천 색인 구성용 레시피 요약 정보
+    interface RecipeSummaryProjection {
+        Long getId();
+        String getTitle();
+        Integer getCookingTime();
+        String getImageUrl();
+        Integer getDifficultyLevel();
+        Long getLikeCount();
+        Long getViewCount();
+    }
+
+    @Query("""
+            SELECT r.id AS id, r.title AS title, r.cookingTime AS cookingTime, r.imageUrl AS imageUrl,
+                   r.difficultyLevel AS difficultyLevel, r.likeCount AS likeCount, r.viewCount AS viewCount
+            FROM Recipe r
+        """)
+    List<RecipeSummaryProjection> findAllSummaries();
+
+    // 작성자를 함께 조회하는 전체 레시피 목록
+    @Query("SELECT r FROM Recipe r JOIN FETCH r.author")
+    List<Recipe> findAllWithAuthor();
+
+    // 레시피 피드 (키셋 페이지네이션) - 최신순
+    @Query("SELECT r FROM Recipe r JOIN FETCH r.author ORDER BY r.createdAt DESC, r.id DESC")
+    List<Recipe> findFeedOrderByCreatedAt(Pageable pageable);
+
+    @Query("""
+            SELECT r FROM Recipe r JOIN FETCH r.author
+            WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)
+            ORDER BY r.createdAt DESC, r.id DESC
+        """)
+    List<Recipe> findFeedOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 레시피 피드 (키셋 페이지네이션) - 좋아요순
+    @Query("SELECT r FROM Recipe r JOIN FETCH r.author ORDER BY r.likeCount DESC, r.id DESC")
+    List<Recipe> findFeedOrderByLikeCount(Pageable pageable);
+
+    @Query("""
+            SELECT r FROM Recipe r JOIN FETCH r.author
+            WHERE r.likeCount < :likeCount OR (r.likeCount = :likeCount AND r.id < :id)
+            ORDER BY r.likeCount DESC, r.id DESC
+        """)
+    List<Recipe> findFeedOrderByLikeCountAfter(@Param("likeCount") Long likeCount,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 레시피 피드 (키셋 페이지네이션) - 조회수순
+    @Query("SELECT r FROM Recipe r JOIN FETCH r.author ORDER BY r.viewCount DESC, r.id DESC")
+    List<Recipe> findFeedOrderByViewCount(Pageable pageable);
+
+    @Query("""
+            SELECT r FROM Recipe r JOIN FETCH r.author
+            WHERE r.viewCount < :viewCount OR (r.viewCount = :viewCount AND r.id < :id)
+            ORDER BY r.viewCount DESC, r.id DESC
+        """)
+    List<Recipe> findFeedOrderByViewCountAfter(@Param("viewCount") Long viewCount,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    // 좋아요 처리에 필요한 최소 정보 (엔티티 로딩 없이 조회)
+    interface RecipeOwnerProjection {
+        Long getId();
+        String getTitle();
+        Long getAuthorId();
+    }
+
+    @Query("SELECT r.id AS id, r.title AS title, r.author.id AS authorId FROM Recipe r WHERE r.id = :recipeId")
+    Optional<RecipeOwnerProjection> findOwnerById(@Param("recipeId") Long recipeId);
+
+    // ID 순으로 레시피 ID 목록을 나눠 조회 (배치 작업용)
+    @Query("SELECT r.id FROM Recipe r WHERE r.id > :lastId ORDER BY r.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     // 통계용 메서드
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
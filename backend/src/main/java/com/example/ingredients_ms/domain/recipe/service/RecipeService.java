@@ -6,11 +6,17 @@ import com.example.ingredients_ms.domain.image.service.ImageService;
 import com.example.ingredients_ms.domain.recipe.dto.request.CreateRecipeRequestDto;
 import com.example.ingredients_ms.domain.recipe.dto.response.AllRecipeResponseDto;
 import com.example.ingredients_ms.domain.recipe.dto.response.RecipeDetailResponseDto;
+import com.example.ingredients_ms.domain.recipe.dto.response.RecipeFeedResponseDto;
 import com.example.ingredients_ms.domain.recipe.entity.Recipe;
+import com.example.ingredients_ms.domain.recipe.entity.RecipeFeedSort;
 import com.example.ingredients_ms.domain.recipe.entity.RecipeType;
+import com.example.ingredients_ms.domain.recipe.event.RecipeCreatedEvent;
+import com.example.ingredients_ms.domain.recipe.event.RecipeDeletedEvent;
 import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
+import com.example.ingredients_ms.domain.recipeingredient.dto.request.CreateRecipeIngredientsRequestDto;
 import com.example.ingredients_ms.domain.recipeingredient.dto.response.RecipeIngredientResponseDto;
 import com.example.ingredients_ms.domain.recipeingredient.service.RecipeIngredientService;
+import com.example.ingredients_ms.domain.recipelike.service.RecipeLikeCounterService;
 import com.example.ingredients_ms.domain.recipestep.dto.response.RecipeStepResponseDto;
 import com.example.ingredients_ms.domain.recipestep.service.RecipeStepService;
 import com.example.ingredients_ms.domain.user.entity.User;
@@ -18,25 +24,38 @@ import com.example.ingredients_ms.domain.user.service.UserService;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
 import com.example.ingredients_ms.global.rsdata.RsData;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecipeService {
 
+    private static final int MAX_FEED_SIZE = 50;
+
     private final RecipeRepository recipeRepository;
     private final UserService userService;
     private final RecipeIngredientService recipeIngredientService;
     private final RecipeStepService recipeStepService;
     private final ImageService imageService;
+    private final RecipeViewCountBuffer recipeViewCountBuffer;
+    private final RecipeLikeCounterService recipeLikeCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 레시피 게시글(레시피, 레시피 재료, 레시피 단계) 생성 로직
@@ -88,42 +107,71 @@ public class RecipeService {
         // 레시피 단계 저장
         recipeStepService.createRecipeStep(requestDto.getStepRequestDto(), recipe, stepImages);
 
+        // 커밋 후 추천 색인 등에 반영
+        eventPublisher.publishEvent(new RecipeCreatedEvent(
+                recipe.getId(),
+                recipe.getTitle(),
+                recipe.getCookingTime(),
+                recipe.getImageUrl(),
+                recipe.getDifficultyLevel(),
+                requestDto.getIngredientsRequestDto().stream()
+                        .map(CreateRecipeIngredientsRequestDto::getIngredientId)
+                        .toList()
+        ));
+
         return new RsData<>("200","레시피가 생성되었습니다.");
     }
 
 
-    @Transactional
+    @Transactional(readOnly = true)
     public RsData<?> findAllRecipe(){
 
-        List<Recipe> recipes = recipeRepository.findAll();
-
-        List<AllRecipeResponseDto> response = recipes.stream().map(recipe ->
-                        AllRecipeResponseDto.builder()
-                                .recipeId(recipe.getId())
-                        .createdAt(recipe.getCreatedAt())
-                                .recipeIngredientResponseDto(recipeIngredientService.findRecipeIngredientByRecipeId(recipe.getId()))
-                        .userNickName(recipe.getAuthor().getUserName())
-                        .description(recipe.getDescription())
-                        .title(recipe.getTitle())
-                        .difficultyLevel(recipe.getDifficultyLevel())
-                        .userProfile(recipe.getAuthor().getProfileUrl())
-                        .cookingTime(recipe.getCookingTime())
-                                .imageUrl(recipe.getImageUrl())
-                                .viewCount(recipe.getViewCount())
-                                .likeCount(recipe.getLikeCount().intValue())//좋아요 카운트
-                        .build())
-                .toList();
+        List<AllRecipeResponseDto> response = toAllRecipeResponseDtos(recipeRepository.findAllWithAuthor());
 
         return new RsData<>("200","모든 레시피를 찾았습니다.", response);
     }
 
-    @Transactional
+    /**
+     * 레시피 피드를 키셋 페이지네이션으로 조회합니다.
+     * 작성자는 fetch join, 재료는 페이지 단위 IN 조회로 가져오므로 페이지 크기와 무관하게 쿼리 2번으로 끝납니다.
+     *
+     * @param sort   정렬 기준 (latest, like, view)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (최대 50)
+     * @return RsData 레시피 목록과 다음 페이지 커서
+     * @throws BusinessLogicException INVALID_SORT_TYPE, INVALID_CURSOR 예외
+     */
+    @Transactional(readOnly = true)
+    public RsData<?> findRecipeFeed(String sort, String cursor, int size){
+
+        RecipeFeedSort feedSort = RecipeFeedSort.fromValue(sort);
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Recipe> recipes = findFeedPage(feedSort, cursor, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = recipes.size() > pageSize;
+        if (hasNext) {
+            recipes = recipes.subList(0, pageSize);
+        }
+
+        RecipeFeedResponseDto response = RecipeFeedResponseDto.builder()
+                .recipes(toAllRecipeResponseDtos(recipes))
+                .nextCursor(hasNext ? encodeCursor(feedSort, recipes.get(recipes.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+
+        return new RsData<>("200","레시피 피드를 찾았습니다.", response);
+    }
+
+    @Transactional(readOnly = true)
     public RsData<?> findRecipeById(Long recipeId){
 
         Recipe recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.RECIPE_NOT_FOUND));
 
-        increaseViewCount(recipeId);
+        // 조회수는 버퍼에만 기록하고 주기적으로 일괄 반영 (상세 조회에서 recipe 행 락을 잡지 않음)
+        recipeViewCountBuffer.increment(recipeId);
 
         List<RecipeIngredientResponseDto> ingredients = recipeIngredientService.findRecipeIngredientByRecipeId(recipeId);
 
@@ -136,10 +184,10 @@ public class RecipeService {
                 .description(recipe.getDescription())
                 .difficultyLevel(recipe.getDifficultyLevel())
                 .imageUrl(recipe.getImageUrl())
-                .likeCount(recipe.getLikeCount())
+                .likeCount(recipeLikeCounterService.getLikeCount(recipeId))
                 .profileUrl(recipe.getAuthor().getProfileUrl())
                 .userNickName(recipe.getAuthor().getNickname())
-                .viewCount(recipe.getViewCount())
+                .viewCount(recipe.getViewCount() + recipeViewCountBuffer.getPendingDelta(recipeId))
                 .title(recipe.getTitle())
                 .servings(recipe.getServings())
                 .recipeType(recipe.getRecipeType())
@@ -152,17 +200,6 @@ public class RecipeService {
         return new RsData<>("200","해당 레시피를 찾았습니다.", response);
     }
 
-    /**
-     * 조회수 증가를 별도 트랜잭션으로 처리
-     * @param recipeId 레시피 ID
-     */
-    @Transactional
-    public void increaseViewCount(Long recipeId) {
-        log.info("조회수 증가 메서드 호출 - recipeId: {}", recipeId);
-        recipeRepository.incrementViewCount(recipeId);
-        log.info("조회수 증가 완료 - recipeId: {}", recipeId);
-    }
-
     @Transactional
     public RsData<?> deleteRecipe(Long recipeId, Long userId){
 
@@ -201,9 +238,92 @@ public class RecipeService {
         // 레시피 삭제
         recipeRepository.deleteById(recipeId);
 
+        eventPublisher.publishEvent(new RecipeDeletedEvent(recipeId));
+
         return new RsData<>("204", "레시피가 삭제되었습니다.");
     }
     
+    private List<Recipe> findFeedPage(RecipeFeedSort sort, String cursor, Pageable pageable){
+
+        if (cursor == null || cursor.isBlank()) {
+            return switch (sort) {
+                case LATEST -> recipeRepository.findFeedOrderByCreatedAt(pageable);
+                case LIKE -> recipeRepository.findFeedOrderByLikeCount(pageable);
+                case VIEW -> recipeRepository.findFeedOrderByViewCount(pageable);
+            };
+        }
+
+        String[] decoded = decodeCursor(cursor);
+        Long lastId = parseCursorValue(decoded[1], Long::parseLong);
+
+        return switch (sort) {
+            case LATEST -> recipeRepository.findFeedOrderByCreatedAtAfter(
+                    parseCursorValue(decoded[0], LocalDateTime::parse), lastId, pageable);
+            case LIKE -> recipeRepository.findFeedOrderByLikeCountAfter(
+                    parseCursorValue(decoded[0], Long::parseLong), lastId, pageable);
+            case VIEW -> recipeRepository.findFeedOrderByViewCountAfter(
+                    parseCursorValue(decoded[0], Long::parseLong), lastId, pageable);
+        };
+    }
+
+    private <T> T parseCursorValue(String value, Function<String, T> parser){
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // 커서 형식: Base64URL("{정렬 키 값}_{레시피 ID}")
+    private String encodeCursor(RecipeFeedSort sort, Recipe last){
+
+        String sortKey = switch (sort) {
+            case LATEST -> last.getCreatedAt().toString();
+            case LIKE -> String.valueOf(last.getLikeCount());
+            case VIEW -> String.valueOf(last.getViewCount());
+        };
+
+        String raw = sortKey + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor){
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // 작성자가 이미 로딩된 레시피 목록에 재료를 한 번에 붙여 응답 DTO로 변환
+    private List<AllRecipeResponseDto> toAllRecipeResponseDtos(List<Recipe> recipes){
+
+        Map<Long, List<RecipeIngredientResponseDto>> ingredientsByRecipe =
+                recipeIngredientService.findRecipeIngredientsByRecipeIds(recipes.stream().map(Recipe::getId).toList());
+
+        return recipes.stream().map(recipe ->
+                        AllRecipeResponseDto.builder()
+                                .recipeId(recipe.getId())
+                                .createdAt(recipe.getCreatedAt())
+                                .recipeIngredientResponseDto(ingredientsByRecipe.getOrDefault(recipe.getId(), List.of()))
+                                .userNickName(recipe.getAuthor().getUserName())
+                                .description(recipe.getDescription())
+                                .title(recipe.getTitle())
+                                .difficultyLevel(recipe.getDifficultyLevel())
+                                .userProfile(recipe.getAuthor().getProfileUrl())
+                                .cookingTime(recipe.getCookingTime())
+                                .imageUrl(recipe.getImageUrl())
+                                .viewCount(recipe.getViewCount())
+                                .likeCount(recipe.getLikeCount().intValue())//좋아요 카운트
+                                .build())
+                .toList();
+    }
+
     /**
      * S3 URL에서 파일명을 추출합니다.
      * @param imageUrl S3 이미지 URL
@@ -0,0 +1,108 @@
+package com.example.ingredients_ms.domain.recipe.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 레시피 조회수 write-behind 버퍼
+ * 상세 조회마다 recipe 행을 UPDATE 하지 않고 메모리에 증가분을 모아 두었다가 주기적으로 한 번에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE recipe SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 레시피 ID -> 아직 반영되지 않은 조회수 증가분 (ConcurrentHashMap 의 bin 단위 락으로 레시피별로 분산됨)
+    private final ConcurrentHashMap<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("recipe.view_count.pending.delta", pendingTotal, LongAdder::sum)
+                .description("DB에 아직 반영되지 않은 조회수 증가분 합계")
+                .register(meterRegistry);
+        Gauge.builder("recipe.view_count.pending.recipes", pendingDeltas, Map::size)
+                .description("반영 대기 중인 레시피 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 기록)
+     * @param recipeId 레시피 ID
+     */
+    public void increment(Long recipeId) {
+        pendingDeltas.merge(recipeId, 1L, Long::sum);
+        pendingTotal.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     * @param recipeId 레시피 ID
+     */
+    public long getPendingDelta(Long recipeId) {
+        return pendingDeltas.getOrDefault(recipeId, 0L);
+    }
+
+    /**
+     * 쌓인 증가분을 배치 UPDATE 로 반영합니다.
+     * 한 트랜잭션으로 반영하므로 실패하면 일부만 반영되지 않고 모두 롤백되며,
+     * 증가분을 버퍼에 되돌려 다음 주기에 다시 시도합니다. (되돌린 증가분이 중복 반영되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${custom.recipe.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        // remove 는 원자적이므로 꺼낸 이후의 증가분은 새 엔트리로 쌓여 다음 주기에 반영됨
+        List<Object[]> batch = new ArrayList<>();
+        for (Long recipeId : pendingDeltas.keySet().stream().sorted().toList()) {
+            Long delta = pendingDeltas.remove(recipeId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, recipeId});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            batch.forEach(row -> pendingTotal.add(-(Long) row[0]));
+            log.debug("조회수 반영 완료 - 레시피 수: {}", batch.size());
+        } catch (Exception e) {
+            batch.forEach(row -> pendingDeltas.merge((Long) row[1], (Long) row[0], Long::sum));
+            log.error("조회수 반영 실패 - 다음 주기에 재시도합니다. 레시피 수: {}", batch.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분을 모두 반영
+     */
+    @PreDestroy
+    public void drain() {
+        log.info("종료 전 조회수 버퍼 반영 - 대기 중인 증가분: {}", pendingTotal.sum());
+        flush();
+    }
+}
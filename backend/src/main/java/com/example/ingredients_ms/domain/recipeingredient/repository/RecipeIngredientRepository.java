@@ -2,8 +2,11 @@ package com.example.ingredients_ms.domain.recipeingredient.repository;
 
 import com.example.ingredients_ms.domain.recipeingredient.entity.RecipeIngredient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +14,17 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
 
     List<RecipeIngredient> findByRecipeId(Long recipeId);
     void deleteByRecipe_Id(Long recipeId);
+
+    // 여러 레시피의 재료를 식재료와 함께 한 번에 조회
+    @Query("SELECT ri FROM RecipeIngredient ri JOIN FETCH ri.ingredient WHERE ri.recipe.id IN :recipeIds ORDER BY ri.id")
+    List<RecipeIngredient> findAllWithIngredientByRecipeIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+
+    // 추천 색인 구성용 (레시피 ID, 식재료 ID) 쌍
+    interface RecipeIngredientPairProjection {
+        Long getRecipeId();
+        Long getIngredientId();
+    }
+
+    @Query("SELECT ri.recipe.id AS recipeId, ri.ingredient.id AS ingredientId FROM RecipeIngredient ri")
+    List<RecipeIngredientPairProjection> findAllRecipeIngredientPairs();
 }
@@ -10,7 +10,11 @@ import com.example.ingredients_ms.domain.recipeingredient.repository.RecipeIngre
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -40,16 +44,41 @@ public class RecipeIngredientService {
 
     public List<RecipeIngredientResponseDto> findRecipeIngredientByRecipeId(Long recipeId){
 
-        return recipeIngredientRepository.findByRecipeId(recipeId).stream().map(ingredient -> RecipeIngredientResponseDto.builder()
-                        .ingredientName(ingredient.getIngredient().getName())
-                        .unit(ingredient.getUnit())
-                        .notes(ingredient.getNotes())
-                        .quantity(ingredient.getQuantity())
-                .build())
+        return recipeIngredientRepository.findByRecipeId(recipeId).stream()
+                .map(this::toResponseDto)
                 .toList();
     }
 
+    /**
+     * 여러 레시피의 재료를 한 번의 쿼리로 조회해 레시피 ID 별로 묶어 반환합니다.
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피 ID -> 재료 목록 (재료가 없는 레시피는 포함되지 않음)
+     */
+    public Map<Long, List<RecipeIngredientResponseDto>> findRecipeIngredientsByRecipeIds(Collection<Long> recipeIds){
+
+        Map<Long, List<RecipeIngredientResponseDto>> result = new HashMap<>();
+        if (recipeIds.isEmpty()) {
+            return result;
+        }
+
+        for (RecipeIngredient ingredient : recipeIngredientRepository.findAllWithIngredientByRecipeIdIn(recipeIds)) {
+            result.computeIfAbsent(ingredient.getRecipe().getId(), id -> new ArrayList<>())
+                    .add(toResponseDto(ingredient));
+        }
+        return result;
+    }
+
     public void deleteRecipeIngredientByRecipeId(Long recipeId){
         recipeIngredientRepository.deleteByRecipe_Id(recipeId);
     }
+
+    private RecipeIngredientResponseDto toResponseDto(RecipeIngredient ingredient){
+        return RecipeIngredientResponseDto.builder()
+                .ingredientName(ingredient.getIngredient().getName())
+                .unit(ingredient.getUnit())
+                .notes(ingredient.getNotes())
+                .quantity(ingredient.getQuantity())
+                .build();
+    }
 }
@@ -9,6 +9,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @RestController
 @Tag(name = "레시피 좋아요 API", description = "레시피 좋아요 관리를 위한 API")
@@ -53,6 +56,18 @@ public class RecipeLikeController {
         return new RsData<>("200", "좋아요 상태가 성공적으로 조회되었습니다.", isLiked);
     }
 
+    /**
+     * 여러 레시피에 대한 현재 사용자의 '좋아요' 여부를 한 번에 확인하는 API 엔드포인트입니다.
+     */
+    @Operation(summary = "레시피 좋아요 상태 일괄 조회", description = "피드 한 페이지 분량(최대 100개)의 레시피에 대해 '좋아요' 여부를 한 번에 조회합니다.")
+    @GetMapping("/likes")
+    public RsData<Map<Long, Boolean>> checkIsLikedBulk(@RequestParam("recipeIds") List<Long> recipeIds) {
+        Long userId = tokenService.getIdFromToken();
+        Map<Long, Boolean> likedStatuses = recipeLikeService.findLikedStatuses(userId, recipeIds);
+
+        return new RsData<>("200", "좋아요 상태가 성공적으로 조회되었습니다.", likedStatuses);
+    }
+
 
 
 }
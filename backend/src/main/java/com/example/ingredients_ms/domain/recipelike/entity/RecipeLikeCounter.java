@@ -0,0 +1,35 @@
+package com.example.ingredients_ms.domain.recipelike.entity;
+
+import com.example.ingredients_ms.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 레시피 좋아요 수의 샤드 카운터
+ * 좋아요/취소 시 recipe 행 대신 임의의 샤드 행에 증감분을 기록하고,
+ * 주기적인 정산 작업이 recipe_like 기준으로 recipe.like_count 에 합쳐 넣은 뒤 샤드를 비웁니다.
+ */
+@Entity
+@Getter
+@Table(name = "recipe_like_counter",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_recipe_like_counter_recipe_shard", columnNames = {"recipe_id", "shard_no"})
+        })
+@NoArgsConstructor
+@SuperBuilder
+public class RecipeLikeCounter extends BaseEntity {
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    // 마지막 정산 이후 누적된 좋아요 증감분
+    @Builder.Default
+    @Column(name = "delta", nullable = false)
+    private Long delta = 0L;
+}
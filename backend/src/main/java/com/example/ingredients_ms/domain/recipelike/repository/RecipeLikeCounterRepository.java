@@ -0,0 +1,51 @@
+package com.example.ingredients_ms.domain.recipelike.repository;
+
+import com.example.ingredients_ms.domain.recipelike.entity.RecipeLikeCounter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RecipeLikeCounterRepository extends JpaRepository<RecipeLikeCounter, Long> {
+
+    /**
+     * 샤드 행에 증감분을 더합니다. 샤드 행이 없으면 새로 만듭니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO recipe_like_counter (recipe_id, shard_no, delta, created_at, modified_at)
+            VALUES (:recipeId, :shardNo, :delta, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE delta = delta + VALUES(delta), modified_at = NOW()
+        """, nativeQuery = true)
+    void addDelta(@Param("recipeId") Long recipeId, @Param("shardNo") int shardNo, @Param("delta") long delta);
+
+    /**
+     * 정산 전 레시피의 좋아요 수 (recipe.like_count + 샤드 증감분 합계)
+     */
+    @Query(value = """
+            SELECT r.like_count + COALESCE((SELECT SUM(c.delta) FROM recipe_like_counter c WHERE c.recipe_id = r.id), 0)
+            FROM recipe r
+            WHERE r.id = :recipeId
+        """, nativeQuery = true)
+    Long findCurrentLikeCount(@Param("recipeId") Long recipeId);
+
+    // 정산이 필요한 레시피 ID 목록
+    @Query("SELECT DISTINCT c.recipeId FROM RecipeLikeCounter c ORDER BY c.recipeId")
+    List<Long> findPendingRecipeIds(Pageable pageable);
+
+    // 정산 중 새 증감분이 끼어들지 않도록 레시피의 샤드 행을 잠급니다.
+    @Query(value = "SELECT id FROM recipe_like_counter WHERE recipe_id = :recipeId FOR UPDATE", nativeQuery = true)
+    List<Long> lockShardsByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Modifying
+    @Query(value = "DELETE FROM recipe_like_counter WHERE recipe_id = :recipeId", nativeQuery = true)
+    void deleteByRecipeId(@Param("recipeId") Long recipeId);
+
+    // 정산한 좋아요 수로 recipe.like_count 를 덮어씁니다.
+    @Modifying
+    @Query(value = "UPDATE recipe SET like_count = :likeCount WHERE id = :recipeId", nativeQuery = true)
+    void overwriteLikeCount(@Param("recipeId") Long recipeId, @Param("likeCount") long likeCount);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,5 +50,47 @@ public interface RecipeLikeRepository extends JpaRepository<RecipeLike, Long> {
 
     boolean existsByUser_IdAndRecipe_IdAndIsActiveTrue(Long userId, Long recipeId);
 
+    long countByRecipe_IdAndIsActiveTrue(Long recipeId);
+
     Optional<RecipeLike> findByUserAndRecipeAndIsActiveTrue(User user, Recipe recipe);
+
+    /**
+     * 취소된 '좋아요'를 다시 활성화합니다. 이미 활성 상태거나 기록이 없으면 아무 행도 바뀌지 않습니다.
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE recipe_like SET is_active = TRUE, liked_at = :now, modified_at = :now
+            WHERE user_id = :userId AND recipe_id = :recipeId AND is_active = FALSE
+        """, nativeQuery = true)
+    int reactivate(@Param("userId") Long userId, @Param("recipeId") Long recipeId, @Param("now") LocalDateTime now);
+
+    /**
+     * (user_id, recipe_id) 유니크 키 기준으로 '좋아요'를 추가합니다. 이미 기록이 있으면 무시됩니다.
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO recipe_like (user_id, recipe_id, liked_at, is_active, created_at, modified_at)
+            VALUES (:userId, :recipeId, :now, TRUE, :now, :now)
+        """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("recipeId") Long recipeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 활성 상태인 '좋아요'를 취소합니다. 이미 취소됐거나 기록이 없으면 아무 행도 바뀌지 않습니다.
+     *
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE recipe_like SET is_active = FALSE, modified_at = :now
+            WHERE user_id = :userId AND recipe_id = :recipeId AND is_active = TRUE
+        """, nativeQuery = true)
+    int deactivate(@Param("userId") Long userId, @Param("recipeId") Long recipeId, @Param("now") LocalDateTime now);
+
+    // 주어진 레시피 중 사용자가 현재 '좋아요' 한 레시피 ID 목록
+    @Query("SELECT rl.recipe.id FROM RecipeLike rl WHERE rl.user.id = :userId AND rl.recipe.id IN :recipeIds AND rl.isActive = true")
+    List<Long> findLikedRecipeIds(@Param("userId") Long userId, @Param("recipeIds") Collection<Long> recipeIds);
 }
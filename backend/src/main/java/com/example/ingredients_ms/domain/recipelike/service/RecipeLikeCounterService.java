@@ -0,0 +1,112 @@
+package com.example.ingredients_ms.domain.recipelike.service;
+
+import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
+import com.example.ingredients_ms.domain.recipelike.repository.RecipeLikeCounterRepository;
+import com.example.ingredients_ms.domain.recipelike.repository.RecipeLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 레시피 좋아요 수 샤드 카운터 관리
+ * 인기 레시피에 좋아요가 몰려도 recipe 행 하나에 락이 집중되지 않도록 증감분을 여러 샤드 행에 나눠 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeLikeCounterService {
+
+    private final RecipeLikeCounterRepository recipeLikeCounterRepository;
+    private final RecipeLikeRepository recipeLikeRepository;
+    private final RecipeRepository recipeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.recipe.like-counter.shards:8}")
+    private int shardCount;
+
+    @Value("${custom.recipe.like-counter.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /**
+     * 임의의 샤드에 좋아요 증감분을 기록합니다. 좋아요/취소 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param recipeId 레시피 ID
+     * @param delta    증감분 (+1 / -1)
+     */
+    public void addDelta(Long recipeId, long delta) {
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        recipeLikeCounterRepository.addDelta(recipeId, shardNo, delta);
+    }
+
+    /**
+     * 아직 정산되지 않은 샤드 증감분까지 포함한 현재 좋아요 수
+     */
+    public long getLikeCount(Long recipeId) {
+        Long likeCount = recipeLikeCounterRepository.findCurrentLikeCount(recipeId);
+        return likeCount == null ? 0L : likeCount;
+    }
+
+    /**
+     * 샤드에 증감분이 쌓인 레시피의 좋아요 수를 recipe_like 기준으로 정산합니다.
+     */
+    @Scheduled(fixedDelayString = "${custom.recipe.like-counter.reconcile-interval-ms:30000}")
+    public void reconcilePendingCounters() {
+        List<Long> recipeIds;
+        do {
+            recipeIds = recipeLikeCounterRepository.findPendingRecipeIds(PageRequest.of(0, reconcileBatchSize));
+            for (Long recipeId : recipeIds) {
+                if (!reconcile(recipeId)) {
+                    // 실패한 레시피가 다시 조회되어 무한 반복되지 않도록 이번 주기는 종료
+                    return;
+                }
+            }
+        } while (recipeIds.size() == reconcileBatchSize);
+    }
+
+    /**
+     * 모든 레시피의 좋아요 수를 recipe_like 기준으로 다시 맞춥니다. (매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcileAllCounters() {
+        log.info("레시피 좋아요 수 전체 정산 시작");
+        long lastId = 0L;
+        int reconciled = 0;
+        List<Long> recipeIds;
+        do {
+            recipeIds = recipeRepository.findIdsAfter(lastId, PageRequest.of(0, reconcileBatchSize));
+            for (Long recipeId : recipeIds) {
+                if (reconcile(recipeId)) {
+                    reconciled++;
+                }
+            }
+            if (!recipeIds.isEmpty()) {
+                lastId = recipeIds.get(recipeIds.size() - 1);
+            }
+        } while (recipeIds.size() == reconcileBatchSize);
+        log.info("레시피 좋아요 수 전체 정산 완료 - 레시피 수: {}", reconciled);
+    }
+
+    // 샤드 행을 잠근 상태에서 활성 좋아요 수를 세어 recipe.like_count 에 반영하고 샤드를 비웁니다.
+    // 샤드를 먼저 잠그므로 정산 도중 커밋되는 좋아요는 정산이 끝난 뒤 새 샤드 행으로 기록됩니다.
+    private boolean reconcile(Long recipeId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                recipeLikeCounterRepository.lockShardsByRecipeId(recipeId);
+                long likeCount = recipeLikeRepository.countByRecipe_IdAndIsActiveTrue(recipeId);
+                recipeLikeCounterRepository.overwriteLikeCount(recipeId, likeCount);
+                recipeLikeCounterRepository.deleteByRecipeId(recipeId);
+            });
+            return true;
+        } catch (Exception e) {
+            log.error("레시피 좋아요 수 정산 실패 - 레시피 ID: {}", recipeId, e);
+            return false;
+        }
+    }
+}
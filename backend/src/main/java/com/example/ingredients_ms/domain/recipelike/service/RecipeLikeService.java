@@ -1,13 +1,9 @@
 package com.example.ingredients_ms.domain.recipelike.service;
 
 
-import com.example.ingredients_ms.domain.recipe.entity.Recipe;
 import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
 import com.example.ingredients_ms.domain.recipelike.dto.response.RecipeLikeResponseDto;
-import com.example.ingredients_ms.domain.recipelike.entity.RecipeLike;
 import com.example.ingredients_ms.domain.recipelike.repository.RecipeLikeRepository;
-import com.example.ingredients_ms.domain.user.entity.User;
-import com.example.ingredients_ms.domain.user.repository.UserRepository;
 import com.example.ingredients_ms.global.alarm.service.NotificationService;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
@@ -17,18 +13,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RecipeLikeService {
 
-
+    private static final int MAX_BULK_LIKE_CHECK_SIZE = 100;
 
     private final RecipeLikeRepository recipeLikeRepository;
     private final RecipeRepository recipeRepository;
-    private final UserRepository userRepository;
+    private final RecipeLikeCounterService recipeLikeCounterService;
     private final NotificationService notificationService;
 
     private final TokenService tokenService;
@@ -36,70 +37,50 @@ public class RecipeLikeService {
 
     /**
      * 사용자가 레시피에 '좋아요'를 추가합니다.
-     * - 한 번도 '좋아요'를 누른 적 없다면 새로 생성합니다.
-     * - 이전에 '좋아요'를 눌렀다가 취소한 상태라면 다시 활성화합니다.
-     * - 이미 '좋아요'가 활성화된 상태라면 예외를 발생시킵니다.
+     * - (user_id, recipe_id) 기준으로 취소된 기록은 다시 활성화하고, 기록이 없으면 새로 추가합니다.
+     * - 이미 '좋아요'가 활성화된 상태라면 아무것도 바꾸지 않고 현재 상태를 반환합니다. (멱등)
+     * - 실제로 상태가 바뀐 경우에만 샤드 카운터를 올리고 작성자에게 알람을 보냅니다.
      *
      * @param userId   사용자 ID
      * @param recipeId 레시피 ID
      * @return RecipeLikeResponseDto 최종 '좋아요' 상태와 개수
+     * @throws BusinessLogicException RECIPE_NOT_FOUND 예외
      */
     @Transactional
     public RecipeLikeResponseDto like(Long userId, Long recipeId) {
-        // 1. User와 Recipe 엔티티를 조회합니다.
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
-        Recipe recipe = recipeRepository.findById(recipeId)
+        RecipeRepository.RecipeOwnerProjection recipe = recipeRepository.findOwnerById(recipeId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.RECIPE_NOT_FOUND));
 
-        // 2. 기존 '좋아요' 기록을 조회합니다.
-        Optional<RecipeLike> likeOptional = recipeLikeRepository.findByUserAndRecipe(user, recipe);
-
-        if (likeOptional.isPresent()) {
-            // 기록이 있는 경우
-            RecipeLike existingLike = likeOptional.get();
-            if (existingLike.getIsActive()) {
-                // 이미 '좋아요' 상태일 경우 -> 예외 발생
-                throw new BusinessLogicException(ExceptionCode.LIKE_ALREADY_EXISTS);
-            }
-            existingLike.reactivateLike();
-        } else {
-            // 기록이 없는 경우 -> 새로 생성
-            recipeLikeRepository.save(RecipeLike.builder()
-                    .user(user)
-                    .recipe(recipe)
-                    .build());
-        }
-
-        // 3. 최종 '좋아요' 개수를 계산
-        recipe.increaseLikeCount();
-
-        // 4. 레시피 작성자에게 알람 발송 (본인이 아닌 경우에만)
-        if (!recipe.getAuthor().getId().equals(userId)) {
-            try {
-                notificationService.createLikeNotification(
-                        recipe.getAuthor().getId(),
-                        recipe.getTitle(),
-                        userId
-                );
-                log.info("좋아요 알람 발송 완료 - 레시피 ID: {}, 작성자 ID: {}, 좋아요 누른 사용자 ID: {}", 
-                        recipeId, recipe.getAuthor().getId(), userId);
-            } catch (Exception e) {
-                log.error("좋아요 알람 발송 실패 - 레시피 ID: {}, 작성자 ID: {}, 좋아요 누른 사용자 ID: {}", 
-                        recipeId, recipe.getAuthor().getId(), userId, e);
+        LocalDateTime now = LocalDateTime.now();
+        boolean changed = recipeLikeRepository.reactivate(userId, recipeId, now) == 1
+                || recipeLikeRepository.insertIgnore(userId, recipeId, now) == 1;
+
+        if (changed) {
+            recipeLikeCounterService.addDelta(recipeId, 1);
+
+            // 레시피 작성자에게 알람 발송 (본인이 아닌 경우에만)
+            if (!recipe.getAuthorId().equals(userId)) {
+                try {
+                    notificationService.createLikeNotification(recipe.getAuthorId(), recipe.getTitle(), userId);
+                    log.info("좋아요 알람 발송 완료 - 레시피 ID: {}, 작성자 ID: {}, 좋아요 누른 사용자 ID: {}",
+                            recipeId, recipe.getAuthorId(), userId);
+                } catch (Exception e) {
+                    log.error("좋아요 알람 발송 실패 - 레시피 ID: {}, 작성자 ID: {}, 좋아요 누른 사용자 ID: {}",
+                            recipeId, recipe.getAuthorId(), userId, e);
+                }
             }
         }
 
         return RecipeLikeResponseDto.builder()
                 .isActive(true)
-                .likeCount(recipe.getLikeCount())
+                .likeCount(recipeLikeCounterService.getLikeCount(recipeId))
                 .build();
     }
 
     /**
      * 사용자가 레시피의 '좋아요'를 취소합니다.
-     * - '좋아요'가 활성화된 상태일 때만 비활성화(취소) 처리합니다.
-     * - '좋아요'를 누른 기록이 없거나 이미 취소된 상태라면 예외를 발생시킵니다.
+     * - '좋아요'가 활성화된 상태일 때만 비활성화(취소)하고 샤드 카운터를 내립니다.
+     * - 기록이 없거나 이미 취소된 상태라면 아무것도 바꾸지 않고 현재 상태를 반환합니다. (멱등)
      *
      * @param userId   사용자 ID
      * @param recipeId 레시피 ID
@@ -107,28 +88,13 @@ public class RecipeLikeService {
      */
     @Transactional
     public RecipeLikeResponseDto unlike(Long userId, Long recipeId) {
-        // 1. User와 Recipe 엔티티를 조회합니다.
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.RECIPE_NOT_FOUND));
-
-
-        // 처음부터 활성화된 '좋아요'만 조회
-        RecipeLike existingLike = recipeLikeRepository.findByUserAndRecipeAndIsActiveTrue(user, recipe)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.LIKE_NOT_FOUND)); // '좋아요'가 없거나 이미 취소된 경우
-
-
-        // 3. '좋아요'를 비활성화(취소)합니다.
-        existingLike.cancelLike();
-
-
-        // COUNT 쿼리 대신 직접 1 감소
-        recipe.decreaseLikeCount();
+        if (recipeLikeRepository.deactivate(userId, recipeId, LocalDateTime.now()) == 1) {
+            recipeLikeCounterService.addDelta(recipeId, -1);
+        }
 
         return RecipeLikeResponseDto.builder()
                 .isActive(false)
-                .likeCount(recipe.getLikeCount())
+                .likeCount(recipeLikeCounterService.getLikeCount(recipeId))
                 .build();
     }
 
@@ -141,4 +107,28 @@ public class RecipeLikeService {
         return recipeLikeRepository.existsByUser_IdAndRecipe_IdAndIsActiveTrue(userId, recipeId);
     }
 
+    /**
+     * 여러 레시피에 대한 현재 사용자의 '좋아요' 여부를 한 번의 쿼리로 조회합니다.
+     *
+     * @param userId    사용자 ID
+     * @param recipeIds 레시피 ID 목록 (최대 100개)
+     * @return 레시피 ID -> '좋아요' 여부 (요청 순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> findLikedStatuses(Long userId, List<Long> recipeIds) {
+        List<Long> targetIds = recipeIds.stream()
+                .distinct()
+                .limit(MAX_BULK_LIKE_CHECK_SIZE)
+                .toList();
+
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        if (targetIds.isEmpty()) {
+            return result;
+        }
+
+        Set<Long> likedIds = new HashSet<>(recipeLikeRepository.findLikedRecipeIds(userId, targetIds));
+        targetIds.forEach(recipeId -> result.put(recipeId, likedIds.contains(recipeId)));
+        return result;
+    }
+
 }
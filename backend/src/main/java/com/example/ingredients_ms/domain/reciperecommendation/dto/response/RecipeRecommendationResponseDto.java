@@ -1,6 +1,7 @@
 package com.example.ingredients_ms.domain.reciperecommendation.dto.response;
 
 import com.example.ingredients_ms.domain.recipe.entity.Recipe;
+import com.example.ingredients_ms.domain.reciperecommendation.service.RecipeRecommendationIndex;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,6 +23,8 @@ public class RecipeRecommendationResponseDto {
     private Long likeCount;
     // 조회 수
     private Long viewCount;
+    // 사용하는 재료 중 유통기한 임박 재료 수
+    private Integer expiringIngredientCount;
 
     // Recipe 엔티티를 DTO로 변환하는 정적 메서드
     public static RecipeRecommendationResponseDto fromEntity(Recipe recipe) {
@@ -36,4 +39,19 @@ public class RecipeRecommendationResponseDto {
                 .build();
     }
 
+    // 추천 색인 결과를 DTO로 변환하는 정적 메서드
+    public static RecipeRecommendationResponseDto fromMatch(RecipeRecommendationIndex.RecipeMatch match) {
+        RecipeRecommendationIndex.RecipeEntry recipe = match.getRecipe();
+        return RecipeRecommendationResponseDto.builder()
+                .recipeId(recipe.getRecipeId())
+                .title(recipe.getTitle())
+                .imageUrl(recipe.getImageUrl())
+                .cookingTime(recipe.getCookingTime())
+                .difficultyLevel(recipe.getDifficultyLevel())
+                .likeCount(recipe.getLikeCount())
+                .viewCount(recipe.getViewCount())
+                .expiringIngredientCount(match.getExpiringIngredientCount())
+                .build();
+    }
+
 }
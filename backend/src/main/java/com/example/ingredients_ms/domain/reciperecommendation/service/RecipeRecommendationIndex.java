@@ -0,0 +1,314 @@
+package com.example.ingredients_ms.domain.reciperecommendation.service;
+
+import com.example.ingredients_ms.domain.recipe.event.RecipeCreatedEvent;
+import com.example.ingredients_ms.domain.recipe.event.RecipeDeletedEvent;
+import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
+import com.example.ingredients_ms.domain.recipeingredient.repository.RecipeIngredientRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 레시피 추천용 인메모리 역색인 (식재료 ID -> 레시피 ordinal 배열)
+ * 추천 요청 시 사용자가 가진 식재료의 posting 배열만 훑어 레시피별 커버리지를 계산하므로 DB를 조회하지 않습니다.
+ * 읽기는 불변 스냅샷을 그대로 사용하고, 쓰기는 바뀐 부분만 복사한 새 스냅샷으로 교체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeRecommendationIndex {
+
+    private static final int[] EMPTY_POSTING = new int[0];
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 전체 재구성 중에 들어온 증분 변경 (재구성 완료 후 새 스냅샷에 다시 적용)
+    private List<UnaryOperator<Snapshot>> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 색인을 다시 만듭니다. 좋아요/조회수 같은 정렬용 값도 이때 갱신됩니다. (기본 10분 주기)
+     */
+    @Scheduled(fixedDelayString = "${custom.recommendation.index-refresh-interval-ms:600000}",
+            initialDelayString = "${custom.recommendation.index-refresh-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            Map<Long, List<Long>> ingredientIdsByRecipe = new HashMap<>();
+            for (RecipeIngredientRepository.RecipeIngredientPairProjection pair : recipeIngredientRepository.findAllRecipeIngredientPairs()) {
+                ingredientIdsByRecipe.computeIfAbsent(pair.getRecipeId(), id -> new ArrayList<>()).add(pair.getIngredientId());
+            }
+
+            List<RecipeEntry> entries = new ArrayList<>();
+            for (RecipeRepository.RecipeSummaryProjection recipe : recipeRepository.findAllSummaries()) {
+                List<Long> ingredientIds = ingredientIdsByRecipe.get(recipe.getId());
+                if (ingredientIds != null) {
+                    entries.add(RecipeEntry.of(recipe.getId(), recipe.getTitle(), recipe.getCookingTime(), recipe.getImageUrl(),
+                            recipe.getDifficultyLevel(), recipe.getLikeCount(), recipe.getViewCount(), ingredientIds));
+                }
+            }
+
+            synchronized (this) {
+                Snapshot rebuilt = Snapshot.of(entries);
+                for (UnaryOperator<Snapshot> change : changesDuringRebuild) {
+                    rebuilt = change.apply(rebuilt);
+                }
+                snapshot = rebuilt;
+            }
+            log.info("레시피 추천 색인 재구성 완료 - 레시피 수: {}", entries.size());
+        } catch (Exception e) {
+            log.error("레시피 추천 색인 재구성 실패 - 기존 색인을 유지합니다.", e);
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeCreated(RecipeCreatedEvent event) {
+        RecipeEntry entry = RecipeEntry.of(event.getRecipeId(), event.getTitle(), event.getCookingTime(), event.getImageUrl(),
+                event.getDifficultyLevel(), 0L, 0L, event.getIngredientIds());
+        apply(current -> current.withRecipe(entry));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeDeleted(RecipeDeletedEvent event) {
+        apply(current -> current.withoutRecipe(event.getRecipeId()));
+    }
+
+    private synchronized void apply(UnaryOperator<Snapshot> change) {
+        snapshot = change.apply(snapshot);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 보유 식재료로 커버리지가 기준 이상인 레시피를 상위 K개 반환합니다.
+     * 유통기한 임박 재료를 많이 쓰는 레시피가 먼저 오고, 같으면 좋아요, 조회수 순입니다.
+     *
+     * @param ingredientIds         사용자가 보유한 식재료 ID
+     * @param expiringIngredientIds 보유 식재료 중 유통기한 임박 식재료 ID
+     * @param threshold             최소 커버리지 (레시피 재료 중 보유한 재료의 비율, 0~1)
+     * @param topK                  최대 반환 개수
+     */
+    public List<RecipeMatch> findTopMatches(Collection<Long> ingredientIds, Collection<Long> expiringIngredientIds,
+                                            double threshold, int topK) {
+        Snapshot current = snapshot;
+        if (topK <= 0 || ingredientIds.isEmpty() || current.entries.length == 0) {
+            return List.of();
+        }
+
+        // 레시피 ordinal 별 보유 재료 수
+        int[] hits = new int[current.entries.length];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        for (Long ingredientId : new HashSet<>(ingredientIds)) {
+            for (int ordinal : current.postings.getOrDefault(ingredientId, EMPTY_POSTING)) {
+                if (hits[ordinal]++ == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = ordinal;
+                }
+            }
+        }
+
+        // 레시피 ordinal 별 임박 재료 수 (보유 재료의 부분집합이므로 hits 가 있는 레시피만 의미 있음)
+        int[] expiringHits = new int[current.entries.length];
+        for (Long ingredientId : new HashSet<>(expiringIngredientIds)) {
+            for (int ordinal : current.postings.getOrDefault(ingredientId, EMPTY_POSTING)) {
+                expiringHits[ordinal]++;
+            }
+        }
+
+        // 상위 K개만 유지하는 최소 힙 (가장 약한 후보가 맨 앞)
+        Comparator<RecipeMatch> ranking = RecipeMatch.RANKING;
+        PriorityQueue<RecipeMatch> heap = new PriorityQueue<>(topK + 1, ranking.reversed());
+
+        for (int i = 0; i < touchedCount; i++) {
+            RecipeEntry entry = current.entries[touched[i]];
+            int matched = hits[touched[i]];
+            if (entry == null || matched < threshold * entry.ingredientIds.length) {
+                continue;
+            }
+            heap.offer(new RecipeMatch(entry, matched, expiringHits[touched[i]]));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+
+        List<RecipeMatch> result = new ArrayList<>(heap);
+        result.sort(ranking);
+        return result;
+    }
+
+    public int size() {
+        return snapshot.ordinals.size();
+    }
+
+    /**
+     * 색인에 보관하는 레시피 요약 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RecipeEntry {
+        private final Long recipeId;
+        private final String title;
+        private final Integer cookingTime;
+        private final String imageUrl;
+        private final Integer difficultyLevel;
+        private final long likeCount;
+        private final long viewCount;
+
+        // 중복 제거된 식재료 ID
+        private final long[] ingredientIds;
+
+        static RecipeEntry of(Long recipeId, String title, Integer cookingTime, String imageUrl, Integer difficultyLevel,
+                              Long likeCount, Long viewCount, Collection<Long> ingredientIds) {
+            long[] distinctIds = ingredientIds.stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray();
+            return new RecipeEntry(recipeId, title, cookingTime, imageUrl, difficultyLevel,
+                    likeCount == null ? 0L : likeCount, viewCount == null ? 0L : viewCount, distinctIds);
+        }
+    }
+
+    /**
+     * 추천 결과 (레시피, 보유 재료 수, 그중 유통기한 임박 재료 수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RecipeMatch {
+
+        // 임박 재료를 많이 쓰는 순, 좋아요 많은 순, 조회수 많은 순, 레시피 ID 순
+        static final Comparator<RecipeMatch> RANKING = Comparator
+                .comparingInt((RecipeMatch match) -> match.expiringIngredientCount).reversed()
+                .thenComparing(Comparator.comparingLong((RecipeMatch match) -> match.recipe.likeCount).reversed())
+                .thenComparing(Comparator.comparingLong((RecipeMatch match) -> match.recipe.viewCount).reversed())
+                .thenComparingLong(match -> match.recipe.recipeId);
+
+        private final RecipeEntry recipe;
+        private final int matchedIngredientCount;
+        private final int expiringIngredientCount;
+
+        public double getCoverage() {
+            return (double) matchedIngredientCount / recipe.ingredientIds.length;
+        }
+    }
+
+    // 불변 색인 스냅샷
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new RecipeEntry[0], Map.of(), Map.of());
+
+        // ordinal -> 레시피 (삭제된 자리는 null, 다음 재구성 때 정리됨)
+        final RecipeEntry[] entries;
+        // 레시피 ID -> ordinal
+        final Map<Long, Integer> ordinals;
+        // 식재료 ID -> 오름차순 ordinal 배열
+        final Map<Long, int[]> postings;
+
+        Snapshot(RecipeEntry[] entries, Map<Long, Integer> ordinals, Map<Long, int[]> postings) {
+            this.entries = entries;
+            this.ordinals = ordinals;
+            this.postings = postings;
+        }
+
+        static Snapshot of(List<RecipeEntry> recipes) {
+            RecipeEntry[] entries = recipes.toArray(new RecipeEntry[0]);
+            Map<Long, Integer> ordinals = new HashMap<>();
+            Map<Long, int[]> postings = new HashMap<>();
+            Map<Long, Integer> postingSizes = new HashMap<>();
+
+            for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+                ordinals.put(entries[ordinal].recipeId, ordinal);
+                for (long ingredientId : entries[ordinal].ingredientIds) {
+                    int[] posting = postings.get(ingredientId);
+                    int size = postingSizes.getOrDefault(ingredientId, 0);
+                    if (posting == null) {
+                        posting = new int[4];
+                    } else if (size == posting.length) {
+                        posting = Arrays.copyOf(posting, size * 2);
+                    }
+                    posting[size] = ordinal;
+                    postings.put(ingredientId, posting);
+                    postingSizes.put(ingredientId, size + 1);
+                }
+            }
+            postings.replaceAll((ingredientId, posting) -> Arrays.copyOf(posting, postingSizes.get(ingredientId)));
+
+            return new Snapshot(entries, ordinals, postings);
+        }
+
+        Snapshot withRecipe(RecipeEntry entry) {
+            Snapshot base = withoutRecipe(entry.recipeId);
+            int ordinal = base.entries.length;
+
+            RecipeEntry[] entries = Arrays.copyOf(base.entries, ordinal + 1);
+            entries[ordinal] = entry;
+
+            Map<Long, Integer> ordinals = new HashMap<>(base.ordinals);
+            ordinals.put(entry.recipeId, ordinal);
+
+            // 새 ordinal 이 항상 가장 크므로 끝에 붙여도 정렬이 유지됨
+            Map<Long, int[]> postings = new HashMap<>(base.postings);
+            for (long ingredientId : entry.ingredientIds) {
+                int[] posting = postings.getOrDefault(ingredientId, EMPTY_POSTING);
+                int[] appended = Arrays.copyOf(posting, posting.length + 1);
+                appended[posting.length] = ordinal;
+                postings.put(ingredientId, appended);
+            }
+
+            return new Snapshot(entries, ordinals, postings);
+        }
+
+        Snapshot withoutRecipe(Long recipeId) {
+            Integer ordinal = ordinals.get(recipeId);
+            if (ordinal == null) {
+                return this;
+            }
+
+            RecipeEntry removed = entries[ordinal];
+            RecipeEntry[] entries = this.entries.clone();
+            entries[ordinal] = null;
+
+            Map<Long, Integer> ordinals = new HashMap<>(this.ordinals);
+            ordinals.remove(recipeId);
+
+            Map<Long, int[]> postings = new HashMap<>(this.postings);
+            for (long ingredientId : removed.ingredientIds) {
+                int[] remaining = Arrays.stream(postings.getOrDefault(ingredientId, EMPTY_POSTING))
+                        .filter(value -> value != ordinal)
+                        .toArray();
+                if (remaining.length == 0) {
+                    postings.remove(ingredientId);
+                } else {
+                    postings.put(ingredientId, remaining);
+                }
+            }
+
+            return new Snapshot(entries, ordinals, postings);
+        }
+    }
+}
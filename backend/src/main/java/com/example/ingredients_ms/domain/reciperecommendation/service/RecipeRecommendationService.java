@@ -1,14 +1,13 @@
 package com.example.ingredients_ms.domain.reciperecommendation.service;
 
-import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
-import com.example.ingredients_ms.domain.foodinventory.repository.FoodInventoryRepository;
-import com.example.ingredients_ms.domain.recipe.entity.Recipe;
-import com.example.ingredients_ms.domain.recipe.repository.RecipeRepository;
+import com.example.ingredients_ms.domain.foodinventory.service.UserInventoryCache;
 import com.example.ingredients_ms.domain.reciperecommendation.dto.response.RecipeRecommendationResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,30 +16,37 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RecipeRecommendationService {
 
-    private final FoodInventoryRepository foodInventoryRepository;
-    private final RecipeRepository recipeRepository;
+    private final UserInventoryCache userInventoryCache;
+    private final RecipeRecommendationIndex recipeRecommendationIndex;
+
+    // 레시피 재료 중 보유한 재료의 최소 비율
+    @Value("${custom.recommendation.coverage-threshold:0.7}")
+    private double coverageThreshold;
+
+    // 최대 추천 개수
+    @Value("${custom.recommendation.top-k:20}")
+    private int topK;
 
     /**
      * 사용자의 식품 재고를 기반으로 레시피를 추천합니다.
+     * 유통기한 임박 재료를 많이 소진하는 레시피일수록 앞에 옵니다.
      * @param userId 사용자 ID
      * @return 추천 레시피 목록
      */
     public List<RecipeRecommendationResponseDto> getRecipeRecommendations(Long userId) {
-        // 1. 사용자의 식품 재고 목록 조회
-        List<FoodInventory> userInventories = foodInventoryRepository.findByUser_IdAndIsDeletedFalseOrderById(userId);
-        
-        // 2. 보유한 재료의 ID 목록 추출
-        List<Long> ingredientIds = userInventories.stream()
-                .map(inventory -> inventory.getIngredient().getId())
-                .distinct()
-                .collect(Collectors.toList());
-        
-        // 3. 보유한 재료로만 만들 수 있는 레시피 조회
-        List<Recipe> availableRecipes = recipeRepository.findRecipesByAvailableIngredients(ingredientIds);
-        
-        // 4. Recipe 엔티티를 RecipeRecommandationResponseDto로 변환
-        return availableRecipes.stream()
-                .map(RecipeRecommendationResponseDto::fromEntity)
+        // 1. 보유한 재료와 유통기한 임박 재료 조회 (캐시)
+        UserInventoryCache.InventoryVector inventory = userInventoryCache.get(userId);
+
+        // 2. 인메모리 색인에서 보유한 재료로 만들 수 있는 레시피를 임박 재료 사용량 기준으로 정렬해 조회
+        List<RecipeRecommendationIndex.RecipeMatch> matches = recipeRecommendationIndex.findTopMatches(
+                inventory.getIngredientIds(),
+                inventory.getExpiringSoonIngredientIds(LocalDateTime.now()),
+                coverageThreshold,
+                topK);
+
+        // 3. 추천 결과를 RecipeRecommendationResponseDto로 변환
+        return matches.stream()
+                .map(RecipeRecommendationResponseDto::fromMatch)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
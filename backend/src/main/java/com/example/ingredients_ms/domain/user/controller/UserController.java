@@ -7,7 +7,9 @@ import com.example.ingredients_ms.domain.user.dto.response.ProfileReposeDto;
 import com.example.ingredients_ms.domain.user.dto.response.ValidUserResponseDto;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.domain.user.service.UserService;
+import com.example.ingredients_ms.global.jwt.AccessTokenVerifier;
 import com.example.ingredients_ms.global.jwt.JwtProvider;
+import com.example.ingredients_ms.global.jwt.RefreshTokenService;
 import com.example.ingredients_ms.global.jwt.TokenService;
 import com.example.ingredients_ms.domain.useractivity.service.UserActivityService;
 import com.example.ingredients_ms.global.rsdata.RsData;
@@ -34,6 +36,8 @@ import java.util.Map;
 public class UserController {
     private final UserService userService;
     private final JwtProvider jwtProvider;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final RefreshTokenService refreshTokenService;
     private final TokenService tokenService;
     private final UserActivityService userActivityService;
 
@@ -54,7 +58,7 @@ public class UserController {
         User user = userService.login(loginRequestDto);
 
         // 2. 로그인 활동 로그 기록
-        userActivityService.logLogin(user);
+        userActivityService.logLogin(user.getId());
 
         // 3. Access/Refresh Token 발급 + 쿠키 설정 (TokenService 사용)
         String accessToken = tokenService.makeAuthCookies(user, response);
@@ -117,7 +121,12 @@ public class UserController {
     }
 
     @PostMapping("/logout")
-    public RsData<?> logout(HttpServletResponse res) {
+    public RsData<?> logout(HttpServletResponse res,
+                            @CookieValue(value = "accessToken", required = false) String accessToken,
+                            @CookieValue(value = "refreshToken", required = false) String refreshToken) {
+
+        accessTokenVerifier.revoke(accessToken);
+        refreshTokenService.revoke(refreshToken);
 
         Cookie cookie = new Cookie("accessToken", null);
         cookie.setHttpOnly(true);
@@ -184,7 +193,7 @@ public class UserController {
         User user = userService.adminLogin(loginRequestDto);
 
         // 관리자 로그인 활동 로그 기록
-        userActivityService.logLogin(user);
+        userActivityService.logLogin(user.getId());
 
         String accessToken = tokenService.makeAuthCookies(user, response);
 
@@ -0,0 +1,15 @@
+package com.example.ingredients_ms.domain.user.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RefreshTokenResponseDto {
+
+    private String accessToken;
+
+    // 갱신 때마다 교체된 새 리프레시 토큰 (동시 요청으로 교체하지 않았으면 null)
+    private String refreshToken;
+
+}
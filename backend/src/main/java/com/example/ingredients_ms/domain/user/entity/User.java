@@ -7,7 +7,9 @@ import com.example.ingredients_ms.domain.foodinventory.entity.FoodInventory;
 import com.example.ingredients_ms.domain.recipe.entity.Recipe;
 import com.example.ingredients_ms.domain.recipelike.entity.RecipeLike;
 import com.example.ingredients_ms.global.Status;
+import com.example.ingredients_ms.global.alarm.entity.ExpiryNotificationMode;
 import com.example.ingredients_ms.global.entity.BaseEntity;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupEntityListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@EntityListeners(StatisticsRollupEntityListener.class)
 @Getter
 @Setter
 @Table(name="users")
@@ -54,6 +57,7 @@ public class User extends BaseEntity {
     @Column(name = "profile", length = 512)
     private String profileUrl;
 
+    // 더 이상 사용하지 않음 (리프레시 토큰은 RefreshTokenStore 에서 관리)
     @JsonIgnore
     @Column(name = "refresh_token", length = 512)
     private String refreshToken;
@@ -70,6 +74,12 @@ public class User extends BaseEntity {
     @Column(length = 50)
     private String socialProvider;
 
+    // 유통기한 알람 수신 방식 (null 이면 식재료별 알람)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "expiry_notification_mode", length = 20)
+    @Builder.Default
+    private ExpiryNotificationMode expiryNotificationMode = ExpiryNotificationMode.ITEM;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
     private Cart cart;
 
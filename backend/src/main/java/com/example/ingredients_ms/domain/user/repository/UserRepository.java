@@ -3,15 +3,18 @@ package com.example.ingredients_ms.domain.user.repository;
 import com.example.ingredients_ms.domain.user.entity.Role;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.Status;
+import com.example.ingredients_ms.global.alarm.entity.ExpiryNotificationMode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-    Optional<User> findByRefreshToken(String refreshToken);
     Optional<User> findBySocialIdAndSsoProvider(String socialId, String socialProvider);
     Optional<User> findByPhoneNumAndUserName(String phoneNum, String userName);
     List<User> findByRole(Role role);
@@ -21,9 +24,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 활성 회원 수
     long countByStatus(Status status);
 
+    // 상태별 회원 수 (상태, 회원 수)
+    @Query("SELECT u.status, COUNT(u) FROM User u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
+
     // 기간 내 신규 가입자 수
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     // 기간 내 활성 회원 수
     long countByStatusAndCreatedAtBetween(Status status, LocalDateTime start, LocalDateTime end);
+
+    // 주어진 사용자 중 해당 유통기한 알람 수신 방식을 선택한 사용자 ID
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids AND u.expiryNotificationMode = :mode")
+    List<Long> findIdsByExpiryNotificationMode(@Param("ids") Collection<Long> ids,
+                                               @Param("mode") ExpiryNotificationMode mode);
 }
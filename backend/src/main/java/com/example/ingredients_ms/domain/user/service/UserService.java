@@ -10,6 +10,7 @@ import com.example.ingredients_ms.domain.user.dto.request.*;
 import com.example.ingredients_ms.domain.user.dto.response.CreateUserResponseDto;
 import com.example.ingredients_ms.domain.user.dto.response.FindIdResponseDto;
 import com.example.ingredients_ms.domain.user.dto.response.ProfileReposeDto;
+import com.example.ingredients_ms.domain.user.dto.response.RefreshTokenResponseDto;
 import com.example.ingredients_ms.domain.user.dto.response.ValidUserResponseDto;
 import com.example.ingredients_ms.domain.user.entity.Role;
 import com.example.ingredients_ms.domain.user.entity.User;
@@ -17,7 +18,10 @@ import com.example.ingredients_ms.domain.user.repository.UserRepository;
 import com.example.ingredients_ms.global.Status;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.example.ingredients_ms.global.jwt.AccessTokenVerifier;
 import com.example.ingredients_ms.global.jwt.JwtProvider;
+import com.example.ingredients_ms.global.jwt.RefreshTokenService;
+import com.example.ingredients_ms.global.jwt.store.RefreshTokenRotation;
 import com.example.ingredients_ms.global.rsdata.RsData;
 import com.example.ingredients_ms.global.security.SecurityUser;
 import jakarta.transaction.Transactional;
@@ -25,16 +29,12 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -45,6 +45,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final RefreshTokenService refreshTokenService;
     private final EmailService emailService;
     private final ImageService imageService;
 
@@ -147,6 +149,8 @@ public class UserService {
         }
         user.setStatus(Status.WITHDRAWN);
         userRepository.save(user);
+        accessTokenVerifier.revokeUser(user.getId());
+        refreshTokenService.revokeAll(user.getId());
 
     }
 
@@ -176,29 +180,27 @@ public class UserService {
         return jwtProvider.verify(token);
     }
 
-    // 토큰 갱신
-    public RsData<String> refreshAccessToken(String refreshToken) {
-        log.info("Refresh Token: " + refreshToken);
-        User user = userRepository.findByRefreshToken(refreshToken).orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_TOKEN));
+    // 토큰 갱신 (리프레시 토큰도 새 토큰으로 교체)
+    public RsData<RefreshTokenResponseDto> refreshAccessToken(String refreshToken) {
+        String newRefreshToken = refreshTokenService.generate();
+        RefreshTokenRotation rotation = refreshTokenService.rotate(refreshToken, newRefreshToken);
+        User user = userRepository.findById(rotation.getUserId()).orElseThrow(() -> new BusinessLogicException(ExceptionCode.INVALID_TOKEN));
 
-        String accessToken = jwtProvider.genAccessToken(user);
+        // 동시 요청으로 이미 교체된 토큰이면 새 리프레시 토큰 없이 액세스 토큰만 발급 (먼저 교체한 응답의 쿠키를 유지)
+        RefreshTokenResponseDto response = RefreshTokenResponseDto.builder()
+                .accessToken(jwtProvider.genAccessToken(user))
+                .refreshToken(rotation.isRotated() ? newRefreshToken : null)
+                .build();
 
-        return new RsData<>("200", "토큰 갱신에 성공하였습니다.", accessToken);
+        return new RsData<>("200", "토큰 갱신에 성공하였습니다.", response);
     }
 
     public SecurityUser getUserFromAccessToken(String accessToken){
-        Map<String, Object> payloadBody = jwtProvider.getClaims(accessToken);
-
-        long id = Long.parseLong(payloadBody.get("id").toString());
-        String username = payloadBody.get("username").toString();
-        String email = payloadBody.get("email").toString();
-        String role = payloadBody.get("role").toString(); // "ADMIN"
-
-        List<GrantedAuthority> authorities = List.of(
-                new SimpleGrantedAuthority("ROLE_" + role) // Spring Security 표준 prefix
-        );
-
-        return new SecurityUser(id, email, username, "", authorities);
+        SecurityUser securityUser = accessTokenVerifier.verify(accessToken);
+        if (securityUser == null) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+        return securityUser;
     }
 
     public Optional<User> findBySocialIdAndSsoProvider(String socialId, String socialProvider){
@@ -367,11 +369,15 @@ public class UserService {
         user.setStatus(Status.fromValue(requestDto.getStatus()));
 
         userRepository.save(user);
+        accessTokenVerifier.revokeUser(user.getId());
+        refreshTokenService.revokeAll(user.getId());
     }
 
     public void dropUser(Long userId){
 
         userRepository.deleteById(userId);
+        accessTokenVerifier.revokeUser(userId);
+        refreshTokenService.revokeAll(userId);
 
     }
 
@@ -384,12 +390,18 @@ public class UserService {
 
         User user = opUser.get();
 
+        Status previousStatus = user.getStatus();
         user.setUserName(requestDto.getUserName());
         user.setStatus(Status.fromValue(requestDto.getUserStatus()));
         user.setPhoneNum(requestDto.getUserPhone());
         user.setEmail(requestDto.getUserEmail());
 
         userRepository.save(user);
+        // 기존 액세스 토큰에는 이전 이름/이메일이 담겨 있으므로 거부하고, 리프레시로 새 클레임을 받게 함
+        accessTokenVerifier.revokeUser(user.getId());
+        if (previousStatus != user.getStatus()) {
+            refreshTokenService.revokeAll(user.getId());
+        }
 
     }
 
@@ -1,27 +1,30 @@
 package com.example.ingredients_ms.domain.user.service;
 
-import com.example.ingredients_ms.domain.complaint.service.ComplaintStatisticsService;
 import com.example.ingredients_ms.domain.user.dto.response.AllUserStatisticsResponseDto;
 import com.example.ingredients_ms.domain.user.dto.response.UserStatisticsResponseDto;
 import com.example.ingredients_ms.domain.user.entity.Role;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.domain.user.repository.UserRepository;
-import com.example.ingredients_ms.global.Status;
-import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.statistics.RollupMetric;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository.PeriodCounts;
+import com.example.ingredients_ms.global.statistics.StatisticsPeriod;
+import com.example.ingredients_ms.global.statistics.active.ActiveUserTracker;
+import com.example.ingredients_ms.global.statistics.active.ActiveUserTracker.WindowCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-
-import static com.example.ingredients_ms.global.exeption.ExceptionCode.UNKNOW_THEME;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class UserStatisticsService {
 
     private final UserRepository userRepository;
-    private final ComplaintStatisticsService complaintStatisticsServiceService;
+    private final StatisticsCountRepository statisticsCountRepository;
+    private final ActiveUserTracker activeUserTracker;
 
     public List<AllUserStatisticsResponseDto> getAllUser(){
         List<User> users = userRepository.findByRole(Role.USER);
@@ -39,72 +42,25 @@ public class UserStatisticsService {
     }
 
     public UserStatisticsResponseDto getStatistics(String theme) {
+        StatisticsPeriod period = StatisticsPeriod.of(theme, LocalDateTime.now());
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start;
-        LocalDateTime prevStart;
-        LocalDateTime prevEnd;
-
-        // 테마별 기간 계산
-        switch (theme) {
-            case "week" -> {
-                start = now.minusWeeks(1);
-                prevStart = now.minusWeeks(2);
-                prevEnd = now.minusWeeks(1);
-            }
-            case "month" -> {
-                start = now.minusMonths(1);
-                prevStart = now.minusMonths(2);
-                prevEnd = now.minusMonths(1);
-            }
-            case "quarter" -> {
-                start = now.minusMonths(3);
-                prevStart = now.minusMonths(6);
-                prevEnd = now.minusMonths(3);
-            }
-            case "year" -> {
-                start = now.minusYears(1);
-                prevStart = now.minusYears(2);
-                prevEnd = now.minusYears(1);
-            }
-            default -> throw new BusinessLogicException(UNKNOW_THEME);
-        }
-
-        // 전체 회원 수
-        long totalUsers = userRepository.count();
-
-        // 현재 기간 활성 회원 수
-        long activeUsers = userRepository.countByStatusAndCreatedAtBetween(Status.ACTIVE, start, now);
-
-        // 현재 기간 신규 가입자 수
-        long newUsers = userRepository.countByCreatedAtBetween(start, now);
-
-        // 이전 기간 대비 증가율
-        long prevActiveUsers = userRepository.countByStatusAndCreatedAtBetween(Status.ACTIVE, prevStart, prevEnd);
-        long prevNewUsers = userRepository.countByCreatedAtBetween(prevStart, prevEnd);
-
-        double activeUserGrowthRate = calculateGrowthRate(activeUsers, prevActiveUsers);
-        double newUserGrowthRate = calculateGrowthRate(newUsers, prevNewUsers);
+        // 회원/민원 지표를 일별 집계에서 한 번에 조회
+        Map<RollupMetric, PeriodCounts> counts = statisticsCountRepository.countAll(period);
+        PeriodCounts users = counts.get(RollupMetric.USERS);
+        // 기간 안에 한 번 이상 활동한 회원 수 (가입일 기준이 아닌 활동 기준)
+        WindowCount activeUsers = activeUserTracker.count(period);
 
         // 민원 처리율 (예: 0~100%)
-        double complaintRate = complaintStatisticsServiceService.getComplaintRate();
+        double complaintRate = StatisticsCountRepository.rateOf(
+                counts.get(RollupMetric.COMPLETED_COMPLAINTS).getTotal(), counts.get(RollupMetric.COMPLAINTS).getTotal());
 
         return UserStatisticsResponseDto.builder()
-                .totalUsers(totalUsers)
-                .activeUserGrowthRate(activeUserGrowthRate)
-                .activeUsers(activeUsers)
+                .totalUsers(users.getTotal())
+                .activeUserGrowthRate(activeUsers.growthRate())
+                .activeUsers(activeUsers.current())
                 .complaintRate(complaintRate)
-                .newUserGrowthRate(newUserGrowthRate)
-                .newUsers(newUsers)
+                .newUserGrowthRate(users.growthRate())
+                .newUsers(users.getCurrent())
                 .build();
     }
-
-    private double calculateGrowthRate(long current, long previous) {
-        if (previous == 0) {
-            return current > 0 ? 100.0 : 0.0;
-        }
-        return ((double) (current - previous) / previous) * 100;
-    }
-
-
 }
@@ -0,0 +1,17 @@
+package com.example.ingredients_ms.domain.useractivity.event;
+
+import com.example.ingredients_ms.domain.useractivity.entity.UserActivity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 대기 중인 사용자 활동 (엔티티 대신 ID 와 값만 담음)
+ */
+public record UserActivityEvent(
+        Long userId,
+        UserActivity.ActivityType activityType,
+        String description,
+        String metadata,
+        LocalDateTime occurredAt
+) {
+}
@@ -66,20 +66,4 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
     List<Object[]> countRecipeCreationsByDate(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
-
-    // 최근 7일간의 활동 통계
-    @Query("""
-        SELECT 
-            DATE(ua.createdAt) as date,
-            SUM(CASE WHEN ua.activityType = 'LOGIN' THEN 1 ELSE 0 END) as logins,
-            SUM(CASE WHEN ua.activityType = 'RECIPE_VIEW' THEN 1 ELSE 0 END) as recipeViews,
-            SUM(CASE WHEN ua.activityType = 'RECIPE_CREATE' THEN 1 ELSE 0 END) as recipeCreations
-        FROM UserActivity ua
-        WHERE ua.createdAt BETWEEN :start AND :end
-        GROUP BY DATE(ua.createdAt)
-        ORDER BY DATE(ua.createdAt)
-        """)
-    List<Object[]> getDailyActivityStats(
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end);
 }
@@ -1,111 +1,97 @@
 package com.example.ingredients_ms.domain.useractivity.service;
 
-import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.domain.useractivity.entity.UserActivity;
-import com.example.ingredients_ms.domain.useractivity.repository.UserActivityRepository;
+import com.example.ingredients_ms.domain.useractivity.event.UserActivityEvent;
+import com.example.ingredients_ms.global.statistics.ChartResolution;
+import com.example.ingredients_ms.global.statistics.RollupMetric;
+import com.example.ingredients_ms.global.statistics.StatisticsCountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class UserActivityService {
 
-    private final UserActivityRepository userActivityRepository;
+    private final UserActivityWriter userActivityWriter;
+    private final StatisticsCountRepository statisticsCountRepository;
 
     /**
      * 사용자 활동 로그 기록
+     * 요청 스레드에서는 큐에 넣기만 하고 저장은 UserActivityWriter 가 배치로 처리합니다.
      */
-    @Transactional
-    public void logActivity(User user, UserActivity.ActivityType activityType, String description, String metadata) {
-        try {
-            UserActivity activity = UserActivity.builder()
-                    .user(user)
-                    .activityType(activityType)
-                    .description(description)
-                    .metadata(metadata)
-                    .build();
-
-            userActivityRepository.save(activity);
-            log.debug("사용자 활동 로그 기록: {} - {}", user.getEmail(), activityType.getDescription());
-        } catch (Exception e) {
-            log.error("사용자 활동 로그 기록 실패: {} - {}", user.getEmail(), activityType.getDescription(), e);
+    public void logActivity(Long userId, UserActivity.ActivityType activityType, String description, String metadata) {
+        if (userId == null) {
+            return;
+        }
+        UserActivityEvent event = new UserActivityEvent(userId, activityType, description, metadata, LocalDateTime.now());
+        if (!userActivityWriter.enqueue(event)) {
+            log.debug("활동 로그 큐가 가득 차 기록하지 못했습니다: {} - {}", userId, activityType.getDescription());
         }
     }
 
     /**
      * 로그인 활동 로그 기록
      */
-    @Transactional
-    public void logLogin(User user) {
-        logActivity(user, UserActivity.ActivityType.LOGIN, "사용자 로그인", null);
+    public void logLogin(Long userId) {
+        logActivity(userId, UserActivity.ActivityType.LOGIN, "사용자 로그인", null);
     }
 
     /**
      * 로그아웃 활동 로그 기록
      */
-    @Transactional
-    public void logLogout(User user) {
-        logActivity(user, UserActivity.ActivityType.LOGOUT, "사용자 로그아웃", null);
+    public void logLogout(Long userId) {
+        logActivity(userId, UserActivity.ActivityType.LOGOUT, "사용자 로그아웃", null);
     }
 
     /**
      * 레시피 조회 활동 로그 기록
      */
-    @Transactional
-    public void logRecipeView(User user, Long recipeId, String recipeTitle) {
+    public void logRecipeView(Long userId, Long recipeId, String recipeTitle) {
         String metadata = String.format("{\"recipeId\": %d, \"recipeTitle\": \"%s\"}", recipeId, recipeTitle);
-        logActivity(user, UserActivity.ActivityType.RECIPE_VIEW, "레시피 조회: " + recipeTitle, metadata);
+        logActivity(userId, UserActivity.ActivityType.RECIPE_VIEW, "레시피 조회: " + recipeTitle, metadata);
     }
 
     /**
      * 레시피 생성 활동 로그 기록
      */
-    @Transactional
-    public void logRecipeCreate(User user, Long recipeId, String recipeTitle) {
+    public void logRecipeCreate(Long userId, Long recipeId, String recipeTitle) {
         String metadata = String.format("{\"recipeId\": %d, \"recipeTitle\": \"%s\"}", recipeId, recipeTitle);
-        logActivity(user, UserActivity.ActivityType.RECIPE_CREATE, "레시피 생성: " + recipeTitle, metadata);
+        logActivity(userId, UserActivity.ActivityType.RECIPE_CREATE, "레시피 생성: " + recipeTitle, metadata);
     }
 
     /**
      * 레시피 좋아요 활동 로그 기록
      */
-    @Transactional
-    public void logRecipeLike(User user, Long recipeId, String recipeTitle) {
+    public void logRecipeLike(Long userId, Long recipeId, String recipeTitle) {
         String metadata = String.format("{\"recipeId\": %d, \"recipeTitle\": \"%s\"}", recipeId, recipeTitle);
-        logActivity(user, UserActivity.ActivityType.RECIPE_LIKE, "레시피 좋아요: " + recipeTitle, metadata);
+        logActivity(userId, UserActivity.ActivityType.RECIPE_LIKE, "레시피 좋아요: " + recipeTitle, metadata);
     }
 
     /**
-     * 최근 7일간의 일별 활동 통계 조회
+     * 기간 내 일별 활동 통계 조회 (일별 집계 테이블 기준, 활동이 없는 날은 빠짐)
      */
     public List<DailyActivityStats> getDailyActivityStats(LocalDateTime start, LocalDateTime end) {
-        List<Object[]> results = userActivityRepository.getDailyActivityStats(start, end);
+        Map<LocalDate, Map<RollupMetric, Long>> daily = statisticsCountRepository.sumByBucket(
+                List.of(RollupMetric.LOGINS, RollupMetric.RECIPE_VIEWS, RollupMetric.RECIPE_CREATIONS),
+                start.toLocalDate(), end.toLocalDate(), ChartResolution.DAY);
         List<DailyActivityStats> stats = new ArrayList<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM/dd");
 
-        for (Object[] result : results) {
-            LocalDate date = ((java.sql.Date) result[0]).toLocalDate();
-            Long logins = (Long) result[1];
-            Long recipeViews = (Long) result[2];
-            Long recipeCreations = (Long) result[3];
-
-            stats.add(DailyActivityStats.builder()
-                    .date(date.format(formatter))
-                    .logins(logins != null ? logins : 0L)
-                    .recipeViews(recipeViews != null ? recipeViews : 0L)
-                    .recipeCreations(recipeCreations != null ? recipeCreations : 0L)
-                    .build());
-        }
+        daily.forEach((date, values) -> stats.add(DailyActivityStats.builder()
+                .date(date.format(formatter))
+                .logins(values.getOrDefault(RollupMetric.LOGINS, 0L))
+                .recipeViews(values.getOrDefault(RollupMetric.RECIPE_VIEWS, 0L))
+                .recipeCreations(values.getOrDefault(RollupMetric.RECIPE_CREATIONS, 0L))
+                .build()));
 
         return stats;
     }
@@ -0,0 +1,184 @@
+package com.example.ingredients_ms.domain.useractivity.service;
+
+import com.example.ingredients_ms.domain.useractivity.event.UserActivityEvent;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupTracker;
+import com.example.ingredients_ms.global.statistics.active.ActiveUserTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자 활동 로그 비동기 기록기
+ * 요청 스레드는 활동을 큐에 넣기만 하고, 백그라운드에서 큐를 비우며 JDBC 배치 INSERT 로 한 번에 저장합니다.
+ * 큐는 크기 제한이 있는 lock-free 큐이며, 가득 차면 새 활동을 버리고(dropped) 임계치를 넘으면 주기를 기다리지 않고 바로 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO user_activities "
+            + "(user_id, activity_type, description, metadata, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ActiveUserTracker activeUserTracker;
+    private final StatisticsRollupTracker statisticsRollupTracker;
+
+    @Value("${custom.user-activity.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${custom.user-activity.batch-size:500}")
+    private int batchSize;
+
+    @Value("${custom.user-activity.backpressure-ratio:0.8}")
+    private double backpressureRatio;
+
+    private final Queue<UserActivityEvent> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() 는 O(n) 이므로 크기는 따로 셈
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Counter droppedCounter;
+    private Counter backpressureCounter;
+    private Counter writtenCounter;
+    private Counter failureCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("user.activity.queue.size", queueSize, AtomicInteger::get)
+                .description("기록 대기 중인 활동 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("user.activity.dropped")
+                .description("큐가 가득 차거나 저장에 실패해 버린 활동 수")
+                .register(meterRegistry);
+        backpressureCounter = Counter.builder("user.activity.backpressure")
+                .description("큐가 임계치를 넘어 즉시 비우기를 요청한 횟수")
+                .register(meterRegistry);
+        writtenCounter = Counter.builder("user.activity.written")
+                .description("저장한 활동 수")
+                .register(meterRegistry);
+        failureCounter = Counter.builder("user.activity.write.failures")
+                .description("배치 저장 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동을 큐에 넣음 (DB 작업 없음)
+     *
+     * @return 큐가 가득 차 버려졌으면 false
+     */
+    public boolean enqueue(UserActivityEvent event) {
+        int size = queueSize.incrementAndGet();
+        if (size > queueCapacity) {
+            queueSize.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.offer(event);
+
+        if (size >= queueCapacity * backpressureRatio && !flushing.get()) {
+            backpressureCounter.increment();
+            flushExecutor.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * 큐가 빌 때까지 batch-size 단위로 저장 (기본 1초 주기, 동시에 한 번만 실행)
+     */
+    @Scheduled(fixedDelayString = "${custom.user-activity.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<UserActivityEvent> batch;
+            while (!(batch = poll()).isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private List<UserActivityEvent> poll() {
+        List<UserActivityEvent> batch = new ArrayList<>(batchSize);
+        UserActivityEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    private void write(List<UserActivityEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(UserActivityWriter::toRow).toList());
+            onWritten(batch);
+        } catch (Exception e) {
+            // 한 행(탈퇴한 사용자 등) 때문에 배치 전체가 실패했을 수 있으므로 한 건씩 다시 시도
+            failureCounter.increment();
+            log.warn("활동 로그 배치 저장 실패 - {}건을 한 건씩 다시 저장합니다.", batch.size(), e);
+            List<UserActivityEvent> written = new ArrayList<>();
+            for (UserActivityEvent event : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, toRow(event));
+                    written.add(event);
+                } catch (Exception rowException) {
+                    droppedCounter.increment();
+                    log.error("활동 로그 저장 실패 - 사용자 ID: {}, {}", event.userId(), event.activityType(), rowException);
+                }
+            }
+            onWritten(written);
+        }
+    }
+
+    private void onWritten(List<UserActivityEvent> events) {
+        writtenCounter.increment(events.size());
+        for (UserActivityEvent event : events) {
+            activeUserTracker.record(event.userId());
+        }
+        // JDBC 로 넣은 행은 엔티티 훅을 거치지 않으므로 일별 집계 갱신 대상을 직접 기록
+        events.stream()
+                .map(event -> event.occurredAt().toLocalDate())
+                .distinct()
+                .forEach(date -> statisticsRollupTracker.markMetric("user_activities", date.atStartOfDay()));
+    }
+
+    private static Object[] toRow(UserActivityEvent event) {
+        Timestamp occurredAt = Timestamp.valueOf(event.occurredAt());
+        return new Object[]{
+                event.userId(), event.activityType().name(), event.description(), event.metadata(), occurredAt, occurredAt
+        };
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 활동을 모두 저장
+     */
+    @PreDestroy
+    public void drain() {
+        log.info("종료 전 활동 로그 저장 - 대기 중인 활동: {}", queueSize.get());
+        flushExecutor.shutdown();
+        flush();
+    }
+}
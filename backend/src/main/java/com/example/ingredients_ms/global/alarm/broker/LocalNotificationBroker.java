@@ -0,0 +1,37 @@
+package com.example.ingredients_ms.global.alarm.broker;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드/테스트용 인메모리 브로커 (발행 즉시 같은 노드의 리스너에 전달)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.sse.broker", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBroker implements NotificationBroker {
+
+    private final List<Consumer<SseMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    // 재시작 후에도 이전 ID 보다 커지도록 기동 시각 기준으로 시작
+    private final AtomicLong eventIdSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    @Override
+    public long nextEventId() {
+        return eventIdSequence.incrementAndGet();
+    }
+
+    @Override
+    public void publish(SseMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<SseMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.ingredients_ms.global.alarm.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * SSE 이벤트를 모든 백엔드 노드에 전달하는 브로커
+ * 각 노드는 구독한 메시지 중 자기 노드에 연결된 사용자의 것만 전송합니다.
+ * custom.sse.broker 값으로 구현을 고릅니다. (redis: Redis pub/sub, local: 단일 노드용 인메모리)
+ */
+public interface NotificationBroker {
+
+    /**
+     * 다음 이벤트 ID (모든 노드에서 단조 증가)
+     */
+    long nextEventId();
+
+    /**
+     * 모든 노드(자기 자신 포함)에 메시지를 발행합니다.
+     */
+    void publish(SseMessage message);
+
+    /**
+     * 이 노드로 들어오는 메시지를 받을 리스너를 등록합니다.
+     */
+    void subscribe(Consumer<SseMessage> listener);
+}
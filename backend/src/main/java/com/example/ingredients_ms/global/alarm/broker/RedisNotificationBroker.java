@@ -0,0 +1,92 @@
+package com.example.ingredients_ms.global.alarm.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 브로커
+ * 어느 노드에서 만든 알람이든 채널로 발행하고, 모든 노드가 구독해 자기 노드에 연결된 사용자에게 전송합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.sse.broker", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisNotificationBroker implements NotificationBroker {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${custom.sse.channel:sse:notification}")
+    private String channel;
+
+    @Value("${custom.sse.event-id-key:sse:event-id}")
+    private String eventIdKey;
+
+    private final List<Consumer<SseMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                SseMessage sseMessage = objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), SseMessage.class);
+                listeners.forEach(listener -> listener.accept(sseMessage));
+            } catch (Exception e) {
+                log.error("SSE 브로커 메시지 처리 실패 - 채널: {}", channel, e);
+            }
+        }, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    @Override
+    public long nextEventId() {
+        Long eventId = stringRedisTemplate.opsForValue().increment(eventIdKey);
+        if (eventId == null) {
+            throw new IllegalStateException("SSE 이벤트 ID 발급 실패");
+        }
+        return eventId;
+    }
+
+    @Override
+    public void publish(SseMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("SSE 브로커 메시지 직렬화 실패 - 사용자 ID: {}", message.getUserId(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SseMessage> listener) {
+        listeners.add(listener);
+    }
+}
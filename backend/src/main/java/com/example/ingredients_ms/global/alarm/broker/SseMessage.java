@@ -0,0 +1,27 @@
+package com.example.ingredients_ms.global.alarm.broker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간에 전달되는 SSE 이벤트
+ * payload 는 발행 노드에서 한 번만 JSON 으로 직렬화해 그대로 전송합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseMessage {
+
+    // 이벤트 ID (전체 노드에서 단조 증가, 클라이언트 재연결 시 Last-Event-ID 로 돌아옴)
+    private long id;
+
+    // 수신 사용자 ID (null 이면 전체 브로드캐스트)
+    private Long userId;
+    private String eventName;
+    private String payload;
+
+    public boolean isBroadcast() {
+        return userId == null;
+    }
+}
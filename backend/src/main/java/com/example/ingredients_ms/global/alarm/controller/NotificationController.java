@@ -1,21 +1,20 @@
 package com.example.ingredients_ms.global.alarm.controller;
 
-import com.example.ingredients_ms.global.alarm.dto.NotificationResponseDto;
-import com.example.ingredients_ms.global.alarm.entity.Notification;
+import com.example.ingredients_ms.global.alarm.dto.NotificationPageResponseDto;
+import com.example.ingredients_ms.global.alarm.dto.NotificationPreferenceDto;
+import com.example.ingredients_ms.global.alarm.entity.ExpiryNotificationMode;
 import com.example.ingredients_ms.global.alarm.service.NotificationService;
 import com.example.ingredients_ms.global.alarm.service.SseService;
 import com.example.ingredients_ms.global.rsdata.RsData;
 import com.example.ingredients_ms.global.security.CurrentUser;
 import com.example.ingredients_ms.global.security.SecurityUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @RestController
 @RequestMapping("/api/v1/notifications")
 @RequiredArgsConstructor
@@ -26,31 +25,41 @@ public class NotificationController {
     private final SseService sseService;
 
     /**
-     * SSE 연결 생성 (실시간 알람 수신)
+     * SSE 연결 생성 (실시간 알람 수신, Last-Event-ID 헤더가 있으면 놓친 알람부터 이어서 전송)
      */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamNotifications(@CurrentUser SecurityUser currentUser) {
-        log.info("SSE 연결 요청 - 사용자 ID: {}", currentUser.getId());
-        return sseService.createConnection(currentUser.getId());
+    public SseEmitter streamNotifications(
+            @CurrentUser SecurityUser currentUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("SSE 연결 요청 - 사용자 ID: {}, Last-Event-ID: {}", currentUser.getId(), lastEventId);
+        return sseService.createConnection(currentUser.getId(), parseEventId(lastEventId));
+    }
+
+    // 형식이 잘못된 Last-Event-ID 는 재전송 없이 새 연결로 처리
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     /**
-     * 사용자의 알람 목록 조회
+     * 사용자의 알람 목록 조회 (커서 기반, 최신순)
      */
     @GetMapping
-    public RsData<List<NotificationResponseDto>> getUserNotifications(
+    public RsData<NotificationPageResponseDto> getUserNotifications(
             @CurrentUser SecurityUser currentUser,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
-        
-        List<Notification> notifications = notificationService.getUserNotifications(
-                currentUser.getId(), page, size);
-        
-        List<NotificationResponseDto> responseDtos = notifications.stream()
-                .map(NotificationResponseDto::fromEntity)
-                .collect(Collectors.toList());
-        
-        return new RsData<>("200", "알람 목록을 조회했습니다.", responseDtos);
+
+        NotificationPageResponseDto response = notificationService.getUserNotifications(
+                currentUser.getId(), cursor, size);
+
+        return new RsData<>("200", "알람 목록을 조회했습니다.", response);
     }
 
     /**
@@ -95,6 +104,27 @@ public class NotificationController {
         return new RsData<>("200", "알람을 삭제했습니다.", null);
     }
 
+    /**
+     * 유통기한 알람 수신 방식 조회
+     */
+    @GetMapping("/preferences")
+    public RsData<NotificationPreferenceDto> getPreferences(@CurrentUser SecurityUser currentUser) {
+        ExpiryNotificationMode mode = notificationService.getExpiryNotificationMode(currentUser.getId());
+        return new RsData<>("200", "알람 설정을 조회했습니다.", new NotificationPreferenceDto(mode));
+    }
+
+    /**
+     * 유통기한 알람 수신 방식 변경 (식재료별 / 요약)
+     */
+    @PatchMapping("/preferences")
+    public RsData<NotificationPreferenceDto> updatePreferences(
+            @CurrentUser SecurityUser currentUser,
+            @Valid @RequestBody NotificationPreferenceDto requestDto) {
+
+        notificationService.updateExpiryNotificationMode(currentUser.getId(), requestDto.getExpiryNotificationMode());
+        return new RsData<>("200", "알람 설정을 변경했습니다.", requestDto);
+    }
+
     /**
      * SSE 연결 상태 조회 (관리자용)
      */
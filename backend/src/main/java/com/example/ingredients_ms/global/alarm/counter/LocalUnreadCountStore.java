@@ -0,0 +1,88 @@
+package com.example.ingredients_ms.global.alarm.counter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드/테스트용 인메모리 저장소
+ * redis 저장소와 같이 ttl-ms 동안 변경이 없는 사용자의 카운터는 비웁니다. (다음 조회 때 DB 에서 다시 셈)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.notification.unread-count.store", havingValue = "local", matchIfMissing = true)
+public class LocalUnreadCountStore implements UnreadCountStore {
+
+    private final Map<Long, Counter> counts = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${custom.notification.unread-count.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Override
+    public Long get(Long userId) {
+        Counter counter = counts.get(userId);
+        return counter == null || counter.isExpired(System.currentTimeMillis()) ? null : counter.count();
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        counts.put(userId, newCounter(count));
+    }
+
+    @Override
+    public long setIfAbsent(Long userId, long count) {
+        return counts.compute(userId, (id, counter) ->
+                counter == null || counter.isExpired(System.currentTimeMillis()) ? newCounter(count) : counter).count();
+    }
+
+    @Override
+    public Long addIfPresent(Long userId, long delta) {
+        Counter counter = counts.computeIfPresent(userId, (id, current) ->
+                current.isExpired(System.currentTimeMillis()) ? null : newCounter(current.count() + delta));
+        return counter == null ? null : counter.count();
+    }
+
+    @Override
+    public void markDirty(Long userId) {
+        dirtyUserIds.add(userId);
+    }
+
+    @Override
+    public List<Long> popDirty(int limit) {
+        List<Long> popped = new ArrayList<>();
+        Iterator<Long> iterator = dirtyUserIds.iterator();
+        while (iterator.hasNext() && popped.size() < limit) {
+            popped.add(iterator.next());
+            iterator.remove();
+        }
+        return popped;
+    }
+
+    /**
+     * 만료된 카운터 정리 (매 10분)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counts.values().removeIf(counter -> counter.isExpired(now));
+    }
+
+    private Counter newCounter(long count) {
+        return new Counter(count, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private record Counter(long count, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.ingredients_ms.global.alarm.counter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 저장소 (여러 노드가 같은 카운터를 공유)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.notification.unread-count.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisUnreadCountStore implements UnreadCountStore {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String DIRTY_KEY = "notification:unread:dirty";
+
+    // 키가 있을 때만 INCRBY 하고 만료 시간을 연장
+    private static final DefaultRedisScript<Long> ADD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return count
+            end
+            return nil
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${custom.notification.unread-count.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Override
+    public Long get(Long userId) {
+        String count = stringRedisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return count == null ? null : Long.parseLong(count);
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(count), Duration.ofMillis(ttlMillis));
+    }
+
+    @Override
+    public long setIfAbsent(Long userId, long count) {
+        String key = KEY_PREFIX + userId;
+        Boolean stored = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), Duration.ofMillis(ttlMillis));
+        if (Boolean.TRUE.equals(stored)) {
+            return count;
+        }
+        String current = stringRedisTemplate.opsForValue().get(key);
+        return current == null ? count : Long.parseLong(current);
+    }
+
+    @Override
+    public Long addIfPresent(Long userId, long delta) {
+        return stringRedisTemplate.execute(ADD_IF_PRESENT_SCRIPT, List.of(KEY_PREFIX + userId),
+                String.valueOf(delta), String.valueOf(ttlMillis));
+    }
+
+    @Override
+    public void markDirty(Long userId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    @Override
+    public List<Long> popDirty(int limit) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, limit);
+        return popped == null ? List.of() : popped.stream().map(Long::parseLong).toList();
+    }
+}
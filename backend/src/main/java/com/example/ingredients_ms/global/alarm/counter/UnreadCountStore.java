@@ -0,0 +1,41 @@
+package com.example.ingredients_ms.global.alarm.counter;
+
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 알람 수 저장소
+ * custom.notification.unread-count.store 값으로 구현을 고릅니다. (redis: 여러 노드가 공유, local: 단일 노드용 인메모리)
+ */
+public interface UnreadCountStore {
+
+    /**
+     * @return 저장된 값이 없으면 null
+     */
+    Long get(Long userId);
+
+    void set(Long userId, long count);
+
+    /**
+     * 값이 없을 때만 저장합니다. (DB 에서 센 값이 그 사이 증감된 최신 값을 덮어쓰지 않도록)
+     *
+     * @return 저장된 값 (이미 있었다면 기존 값)
+     */
+    long setIfAbsent(Long userId, long count);
+
+    /**
+     * 값이 있을 때만 증감합니다. (없는 값을 0부터 세면 실제 개수와 어긋나므로)
+     *
+     * @return 증감 후 값, 저장된 값이 없으면 null
+     */
+    Long addIfPresent(Long userId, long delta);
+
+    /**
+     * 정산 대상으로 표시합니다.
+     */
+    void markDirty(Long userId);
+
+    /**
+     * 정산 대상을 최대 limit 명 꺼냅니다.
+     */
+    List<Long> popDirty(int limit);
+}
@@ -0,0 +1,85 @@
+package com.example.ingredients_ms.global.alarm.dto;
+
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import com.example.ingredients_ms.global.util.Ut;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장 전 알람 내용 (일괄 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationDraft {
+
+    private final Long userId;
+    private final NotificationType type;
+    private final String title;
+    private final String message;
+    private final String data;
+
+    public static NotificationDraft expiringSoon(Long userId, String ingredientName, LocalDateTime expirationDate) {
+        String message = String.format("'%s'이(가) %s에 만료됩니다.", ingredientName, expirationDate.toLocalDate());
+        String data = String.format("{\"ingredientName\":\"%s\",\"expirationDate\":\"%s\"}",
+                ingredientName, expirationDate.toString());
+        return new NotificationDraft(userId, NotificationType.EXPIRING_SOON, "식재료 만료 임박", message, data);
+    }
+
+    public static NotificationDraft expired(Long userId, String ingredientName, LocalDateTime expirationDate) {
+        String message = String.format("'%s'이(가) %s에 만료되었습니다.", ingredientName, expirationDate.toLocalDate());
+        String data = String.format("{\"ingredientName\":\"%s\",\"expirationDate\":\"%s\"}",
+                ingredientName, expirationDate.toString());
+        return new NotificationDraft(userId, NotificationType.EXPIRED, "식재료 만료", message, data);
+    }
+
+    /**
+     * 유통기한 요약 알람 (사용자당 한 건, data 에 식재료 목록 포함)
+     *
+     * @param items 만료/만료 임박으로 바뀐 식재료 (비어 있으면 안 됨)
+     */
+    public static NotificationDraft expiryDigest(Long userId, List<ExpiryItem> items) {
+        long expiredCount = items.stream().filter(item -> item.getType() == NotificationType.EXPIRED).count();
+        long expiringSoonCount = items.size() - expiredCount;
+
+        List<String> parts = new ArrayList<>();
+        if (expiredCount > 0) {
+            parts.add(String.format("만료된 식재료 %d개", expiredCount));
+        }
+        if (expiringSoonCount > 0) {
+            parts.add(String.format("만료 임박 식재료 %d개", expiringSoonCount));
+        }
+        String message = String.join(", ", parts) + "가 있습니다.";
+
+        List<Map<String, Object>> itemData = items.stream()
+                .map(item -> Ut.<String, Object>mapOf(
+                        "inventoryId", item.getInventoryId(),
+                        "ingredientName", item.getIngredientName(),
+                        "expirationDate", item.getExpirationDate().toString(),
+                        "type", item.getType().getValue()))
+                .toList();
+        String data = (String) Ut.json.toStr(Ut.mapOf(
+                "expiredCount", expiredCount,
+                "expiringSoonCount", expiringSoonCount,
+                "items", itemData));
+
+        return new NotificationDraft(userId, NotificationType.EXPIRY_DIGEST, "식재료 유통기한 알림", message, data);
+    }
+
+    /**
+     * 요약 알람에 들어갈 식재료 한 건 (type 은 EXPIRED / EXPIRING_SOON)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ExpiryItem {
+
+        private final Long inventoryId;
+        private final String ingredientName;
+        private final LocalDateTime expirationDate;
+        private final NotificationType type;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.ingredients_ms.global.alarm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class NotificationPageResponseDto {
+
+    // 현재 페이지의 알람 목록 (본 테이블과 아카이브를 합쳐 최신순)
+    private List<NotificationResponseDto> notifications;
+
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+}
@@ -0,0 +1,19 @@
+package com.example.ingredients_ms.global.alarm.dto;
+
+import com.example.ingredients_ms.global.alarm.entity.ExpiryNotificationMode;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPreferenceDto {
+
+    // 유통기한 알람 수신 방식 (item: 식재료별, digest: 요약)
+    @NotNull
+    private ExpiryNotificationMode expiryNotificationMode;
+}
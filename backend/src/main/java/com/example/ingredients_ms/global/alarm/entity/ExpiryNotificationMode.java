@@ -0,0 +1,36 @@
+package com.example.ingredients_ms.global.alarm.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 유통기한 알람 수신 방식
+ * ITEM: 식재료마다 알람 한 건, DIGEST: 한 번의 스케줄 처리에서 바뀐 식재료를 사용자당 알람 한 건으로 요약
+ */
+public enum ExpiryNotificationMode {
+
+    ITEM("item"),
+    DIGEST("digest")
+    ;
+
+    private final String value;
+
+    ExpiryNotificationMode(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static ExpiryNotificationMode fromValue(String value) {
+        for (ExpiryNotificationMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status value: " + value);
+    }
+}
@@ -9,7 +9,9 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "idx_notification_user_created_at_id", columnList = "user_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +23,7 @@ public class Notification extends BaseEntity {
     private User user;
 
     @Enumerated(EnumType.STRING)
-    private NotificationType type; // LIKE, COMPLAINT, EXPIRING_SOON
+    private NotificationType type; // LIKE, COMPLAINT, EXPIRING_SOON, EXPIRED, EXPIRY_DIGEST
 
     private String title;
     private String message;
@@ -8,7 +8,8 @@ public enum NotificationType {
     LIKE("like"),
     COMPLAINT("complaint"),
     EXPIRING_SOON("expiring_soon"),
-    EXPIRED("expired")
+    EXPIRED("expired"),
+    EXPIRY_DIGEST("expiry_digest")
     ;
 
     private final String value;
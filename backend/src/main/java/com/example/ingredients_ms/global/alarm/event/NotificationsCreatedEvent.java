@@ -0,0 +1,18 @@
+package com.example.ingredients_ms.global.alarm.event;
+
+import com.example.ingredients_ms.global.alarm.dto.NotificationResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알람 일괄 생성 이벤트 (트랜잭션 커밋 이후 SSE 발송)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsCreatedEvent {
+
+    private final Map<Long, List<NotificationResponseDto>> notificationsByUser;
+}
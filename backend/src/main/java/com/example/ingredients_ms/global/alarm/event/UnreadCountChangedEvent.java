@@ -0,0 +1,28 @@
+package com.example.ingredients_ms.global.alarm.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 읽지 않은 알람 수 변경 이벤트 (트랜잭션 커밋 이후 카운터 반영 및 SSE 발송)
+ */
+@Getter
+@AllArgsConstructor
+public class UnreadCountChangedEvent {
+
+    private final Long userId;
+
+    // 증감분 (reset 이 true 면 무시)
+    private final long delta;
+
+    // 모두 읽음 처리로 0 이 된 경우
+    private final boolean reset;
+
+    public static UnreadCountChangedEvent added(Long userId, long delta) {
+        return new UnreadCountChangedEvent(userId, delta, false);
+    }
+
+    public static UnreadCountChangedEvent reset(Long userId) {
+        return new UnreadCountChangedEvent(userId, 0, true);
+    }
+}
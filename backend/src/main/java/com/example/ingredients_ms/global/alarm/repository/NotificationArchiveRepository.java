@@ -0,0 +1,242 @@
+package com.example.ingredients_ms.global.alarm.repository;
+
+import com.example.ingredients_ms.global.alarm.dto.NotificationResponseDto;
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 읽은 지 오래된 알람을 보관하는 월별 아카이브 테이블 (notification_archive_yyyyMM)
+ * 테이블 하나가 한 달치 알람을 담고, 보관 기간이 지나면 테이블 단위로 DROP 합니다.
+ * 원본 알람 ID 를 그대로 유지하므로 (created_at, id) 커서를 본 테이블과 함께 쓸 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationArchiveRepository {
+
+    private static final String TABLE_PREFIX = "notification_archive_";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 다른 노드에서 만들거나 지운 테이블을 반영하는 주기
+    private static final long MONTHS_REFRESH_INTERVAL_MILLIS = 60 * 1000L;
+
+    private static final String COLUMNS = "id, user_id, type, title, message, data, is_read, read_at, created_at";
+
+    private static final RowMapper<NotificationResponseDto> ROW_MAPPER = (rs, rowNum) -> NotificationResponseDto.builder()
+            .id(rs.getLong("id"))
+            .type(NotificationType.valueOf(rs.getString("type")))
+            .title(rs.getString("title"))
+            .message(rs.getString("message"))
+            .data(rs.getString("data"))
+            .isRead(rs.getBoolean("is_read"))
+            .readAt(toLocalDateTime(rs.getTimestamp("read_at")))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile NavigableSet<YearMonth> months = Collections.emptyNavigableSet();
+    private volatile long monthsLoadedAt;
+
+    public static String tableName(YearMonth month) {
+        return TABLE_PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    /**
+     * 해당 월 아카이브 테이블이 없으면 생성 (DDL 은 암묵적으로 커밋되므로 트랜잭션 밖에서 호출)
+     */
+    public void createTableIfNotExists(YearMonth month) {
+        if (months().contains(month)) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + tableName(month) + " ("
+                + "id BIGINT NOT NULL PRIMARY KEY, "
+                + "user_id BIGINT NOT NULL, "
+                + "type VARCHAR(50) NOT NULL, "
+                + "title VARCHAR(255), "
+                + "message TEXT, "
+                + "data TEXT, "
+                + "is_read BOOLEAN, "
+                + "read_at DATETIME(6), "
+                + "created_at DATETIME(6) NOT NULL, "
+                + "INDEX idx_user_created_at_id (user_id, created_at, id))");
+        refreshMonths();
+        log.info("알람 아카이브 테이블 생성 - {}", tableName(month));
+    }
+
+    /**
+     * 본 테이블의 id 범위 중 조건에 맞는 알람을 해당 월 아카이브 테이블로 복사
+     *
+     * @return 복사한 알람 수
+     */
+    public int copyFromNotification(YearMonth month, long fromId, long toId, LocalDateTime createdBefore) {
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+        return jdbcTemplate.update(
+                "INSERT INTO " + tableName(month) + " (" + COLUMNS + ") "
+                        + "SELECT " + COLUMNS + " FROM notification "
+                        + "WHERE id >= ? AND id < ? AND is_read = TRUE AND created_at < ? "
+                        + "AND created_at >= ? AND created_at < ?",
+                fromId, toId, Timestamp.valueOf(createdBefore),
+                Timestamp.valueOf(monthStart), Timestamp.valueOf(monthEnd));
+    }
+
+    /**
+     * 사용자의 아카이브 알람을 (created_at, id) 내림차순으로 최대 limit 개 조회
+     * 최신 월부터 차례로 읽으며, 커서가 있으면 커서 이전 알람만 조회합니다.
+     * 타입별 보관 기간이 지난 알람(expiredBefore)은 아직 정리되지 않았어도 제외합니다.
+     */
+    public List<NotificationResponseDto> findByUserIdBefore(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit,
+                                                            Map<NotificationType, LocalDateTime> expiredBefore) {
+        List<Object> retentionArgs = new ArrayList<>();
+        String retentionCondition = expiredBefore.isEmpty()
+                ? ""
+                : " AND NOT " + expiredCondition(expiredBefore, retentionArgs);
+
+        List<NotificationResponseDto> result = new ArrayList<>();
+        NavigableSet<YearMonth> candidates = cursorCreatedAt == null
+                ? months().descendingSet()
+                : months().headSet(YearMonth.from(cursorCreatedAt), true).descendingSet();
+
+        for (YearMonth month : candidates) {
+            int remaining = limit - result.size();
+            if (remaining <= 0) {
+                break;
+            }
+            List<Object> args = new ArrayList<>();
+            args.add(userId);
+            String cursorCondition = "";
+            if (cursorCreatedAt != null) {
+                Timestamp createdAt = Timestamp.valueOf(cursorCreatedAt);
+                cursorCondition = " AND (created_at < ? OR (created_at = ? AND id < ?))";
+                args.addAll(List.of(createdAt, createdAt, cursorId));
+            }
+            args.addAll(retentionArgs);
+            args.add(remaining);
+            try {
+                result.addAll(jdbcTemplate.query(
+                        "SELECT " + COLUMNS + " FROM " + tableName(month)
+                                + " WHERE user_id = ?" + cursorCondition + retentionCondition
+                                + " ORDER BY created_at DESC, id DESC LIMIT ?",
+                        ROW_MAPPER, args.toArray()));
+            } catch (DataAccessException e) {
+                // 다른 노드에서 보관 기간이 지나 삭제된 테이블이면 목록만 갱신하고 건너뜀
+                log.warn("알람 아카이브 조회 실패 - {}", tableName(month), e);
+                refreshMonths();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 해당 월 아카이브에서 타입별 보관 기간이 지난 알람을 batchSize 개씩 삭제
+     *
+     * @return 삭제한 알람 수
+     */
+    public long deleteExpired(YearMonth month, Map<NotificationType, LocalDateTime> expiredBefore, int batchSize) {
+        if (expiredBefore.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>();
+        String sql = "DELETE FROM " + tableName(month) + " WHERE " + expiredCondition(expiredBefore, args) + " LIMIT ?";
+        args.add(batchSize);
+
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(sql, args.toArray());
+            deleted += batch;
+        } while (batch == batchSize);
+        return deleted;
+    }
+
+    // 타입별 보관 기간 조건 ((type = ? AND created_at < ?) OR ...), 인자는 args 에 추가
+    private static String expiredCondition(Map<NotificationType, LocalDateTime> expiredBefore, List<Object> args) {
+        StringJoiner conditions = new StringJoiner(" OR ", "(", ")");
+        expiredBefore.forEach((type, cutoff) -> {
+            conditions.add("(type = ? AND created_at < ?)");
+            args.add(type.name());
+            args.add(Timestamp.valueOf(cutoff));
+        });
+        return conditions.toString();
+    }
+
+    public boolean existsByIdAndUserId(Long id, Long userId) {
+        for (YearMonth month : months().descendingSet()) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + tableName(month) + " WHERE id = ? AND user_id = ?",
+                    Integer.class, id, userId);
+            if (count != null && count > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 삭제된 알람 수
+     */
+    public int deleteByIdAndUserId(Long id, Long userId) {
+        for (YearMonth month : months().descendingSet()) {
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM " + tableName(month) + " WHERE id = ? AND user_id = ?", id, userId);
+            if (deleted > 0) {
+                return deleted;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 월 단위 보관 정리 (대량 DELETE 없이 테이블을 통째로 삭제)
+     */
+    public void dropTable(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + tableName(month));
+        refreshMonths();
+        log.info("알람 아카이브 테이블 삭제 - {}", tableName(month));
+    }
+
+    /**
+     * 현재 존재하는 아카이브 월 목록 (오름차순)
+     */
+    public NavigableSet<YearMonth> months() {
+        if (System.currentTimeMillis() - monthsLoadedAt > MONTHS_REFRESH_INTERVAL_MILLIS) {
+            refreshMonths();
+        }
+        return months;
+    }
+
+    private synchronized void refreshMonths() {
+        List<String> tableNames = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables "
+                        + "WHERE table_schema = SCHEMA() AND LOWER(table_name) LIKE 'notification\\_archive\\_%'",
+                String.class);
+
+        NavigableSet<YearMonth> loaded = new TreeSet<>();
+        for (String tableName : tableNames) {
+            String suffix = tableName.toLowerCase().substring(TABLE_PREFIX.length());
+            try {
+                loaded.add(YearMonth.parse(suffix, MONTH_FORMAT));
+            } catch (RuntimeException e) {
+                log.warn("알람 아카이브 테이블 이름을 해석할 수 없습니다 - {}", tableName);
+            }
+        }
+        months = Collections.unmodifiableNavigableSet(loaded);
+        monthsLoadedAt = System.currentTimeMillis();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -5,6 +5,9 @@ import com.example.ingredients_ms.global.alarm.entity.Notification;
 import com.example.ingredients_ms.global.alarm.entity.NotificationType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,13 +16,35 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     // 사용자의 모든 알람 조회 (최신순)
     List<Notification> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    // 사용자 알람 목록 (키셋 페이지네이션) - 최신순
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT n FROM Notification n
+            WHERE n.user.id = :userId AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+            ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<Notification> findPageByUserIdAfter(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
     
     // 사용자의 읽지 않은 알람 개수
     long countByUserAndIsReadFalse(User user);
+
+    // 사용자 ID 기준 읽지 않은 알람 개수 (사용자 엔티티 조회 없이)
+    long countByUser_IdAndIsReadFalse(Long userId);
     
     // 사용자의 특정 타입 알람 조회
     List<Notification> findByUserAndTypeOrderByCreatedAtDesc(User user, NotificationType type, Pageable pageable);
     
+    // 사용자의 읽지 않은 알람 일괄 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
     // 사용자의 읽지 않은 알람 조회
     List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
     
@@ -0,0 +1,349 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.domain.foodinventory.entity.FoodStatus;
+import com.example.ingredients_ms.domain.foodinventory.event.FoodInventoryChangedEvent;
+import com.example.ingredients_ms.domain.foodinventory.repository.FoodInventoryRepository;
+import com.example.ingredients_ms.domain.foodinventory.service.UserInventoryCache;
+import com.example.ingredients_ms.global.alarm.dto.NotificationDraft;
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 식재료 유통기한 상태 전이 엔진
+ * 보관중/임박 재고의 다음 상태 전이 시각을 우선순위 큐에 보관하고, 시각이 된 재고만 골라 상태를 바꾸고 알람을 보냅니다.
+ * 큐는 기동 시 DB 기준으로 만들고, 이후에는 재고 생성/수정/삭제 이벤트로 갱신합니다.
+ * 도래한 전이는 청크 단위 트랜잭션으로 처리하고, 알람은 일괄 저장 후 커밋 이후에 발송합니다.
+ * 청크가 실패하면 사용자별로 나눠 다시 처리하고, 그래도 실패한 사용자의 전이만 점점 늦춰 재시도하다가
+ * 최대 시도 횟수를 넘기면 버리고 새벽 재구성에 맡깁니다.
+ * 요약 알람을 선택한 사용자는 한 주기에 바뀐 식재료를 알람 한 건으로 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FoodInventoryExpirationEngine {
+
+    private static final long EXPIRING_SOON_DAYS = 3;
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+
+    private static final List<FoodStatus> SCHEDULED_STATUSES = List.of(FoodStatus.NORMAL, FoodStatus.EXPIRING_SOON);
+
+    private final FoodInventoryRepository foodInventoryRepository;
+    private final NotificationService notificationService;
+    private final UserInventoryCache userInventoryCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.inventory.expiration.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${custom.inventory.expiration.tick-ms:60000}")
+    private long tickMillis;
+
+    @Value("${custom.inventory.expiration.retry-max-attempts:5}")
+    private int retryMaxAttempts;
+
+    private PriorityQueue<Transition> queue = new PriorityQueue<>(Transition.DUE_ORDER);
+
+    // 재고 ID -> 예약 기준 유통기한 (값이 다르거나 없으면 큐에 남은 이전 예약은 무시)
+    private Map<Long, LocalDateTime> scheduledExpirations = new HashMap<>();
+
+    // 전체 재구성 중에 들어온 재고 변경 (재구성 완료 후 새 큐에 다시 적용)
+    private List<FoodInventoryChangedEvent> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        // 서버가 내려가 있던 동안 지난 전이를 바로 처리
+        processDueTransitions();
+    }
+
+    /**
+     * DB 기준으로 전이 큐를 다시 만듭니다. 이벤트 유실에 대비한 안전장치입니다. (매일 새벽 3시)
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void rebuild() {
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            PriorityQueue<Transition> rebuiltQueue = new PriorityQueue<>(Transition.DUE_ORDER);
+            Map<Long, LocalDateTime> rebuiltExpirations = new HashMap<>();
+            for (FoodInventoryRepository.ExpirationScheduleProjection schedule
+                    : foodInventoryRepository.findExpirationSchedules(SCHEDULED_STATUSES)) {
+                schedule(rebuiltQueue, rebuiltExpirations, schedule.getId(), schedule.getUserId(),
+                        schedule.getExpirationDate(), schedule.getStatus());
+            }
+
+            synchronized (this) {
+                for (FoodInventoryChangedEvent change : changesDuringRebuild) {
+                    apply(rebuiltQueue, rebuiltExpirations, change);
+                }
+                queue = rebuiltQueue;
+                scheduledExpirations = rebuiltExpirations;
+            }
+            log.info("식재료 만료 스케줄 재구성 완료 - 대상 재고 수: {}", rebuiltExpirations.size());
+        } catch (Exception e) {
+            log.error("식재료 만료 스케줄 재구성 실패 - 기존 스케줄을 유지합니다.", e);
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onFoodInventoryChanged(FoodInventoryChangedEvent event) {
+        apply(queue, scheduledExpirations, event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    /**
+     * 전이 시각이 지난 재고를 처리합니다. (기본 1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${custom.inventory.expiration.tick-ms:60000}",
+            initialDelayString = "${custom.inventory.expiration.tick-ms:60000}")
+    public void processDueTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transition> due = new ArrayList<>();
+
+        synchronized (this) {
+            while (!queue.isEmpty() && !queue.peek().getDueAt().isAfter(now)) {
+                Transition transition = queue.poll();
+                if (!transition.getExpirationDate().equals(scheduledExpirations.get(transition.getInventoryId()))) {
+                    continue;
+                }
+                if (transition.getTargetStatus() == FoodStatus.EXPIRED) {
+                    // 만료 이후로는 예약할 전이가 없음 (임박 전이는 항상 만료 전이보다 먼저 꺼내짐)
+                    scheduledExpirations.remove(transition.getInventoryId());
+                }
+                due.add(transition);
+            }
+        }
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        // 요약 알람이 사용자당 한 건이 되도록 같은 사용자의 전이는 한 청크에 모음
+        due.sort(Comparator.comparing(Transition::getUserId));
+        int transitioned = 0;
+        for (List<Transition> chunk : chunkByUser(due)) {
+            try {
+                transitioned += transitionChunk(chunk, now);
+            } catch (Exception e) {
+                // 커밋된 청크는 그대로 두고, 실패한 청크는 한 사용자의 문제가 다른 사용자를 막지 않도록 사용자별로 다시 처리
+                log.warn("식재료 상태 전이 실패 - 사용자별로 다시 처리합니다. 재고 수: {}", chunk.size(), e);
+                transitioned += transitionPerUser(chunk, now);
+            }
+        }
+
+        if (transitioned > 0) {
+            log.info("{}개의 식재료 상태를 업데이트하고 알람을 발송했습니다.", transitioned);
+        }
+    }
+
+    /**
+     * 사용자 순으로 정렬된 전이를 청크로 나눕니다. 한 사용자의 전이는 청크 크기를 넘더라도 나누지 않습니다.
+     */
+    private List<List<Transition>> chunkByUser(List<Transition> sorted) {
+        List<List<Transition>> chunks = new ArrayList<>();
+        List<Transition> current = new ArrayList<>();
+        int from = 0;
+        while (from < sorted.size()) {
+            Long userId = sorted.get(from).getUserId();
+            int to = from;
+            while (to < sorted.size() && sorted.get(to).getUserId().equals(userId)) {
+                to++;
+            }
+            if (!current.isEmpty() && current.size() + (to - from) > chunkSize) {
+                chunks.add(current);
+                current = new ArrayList<>();
+            }
+            current.addAll(sorted.subList(from, to));
+            from = to;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private int transitionPerUser(List<Transition> chunk, LocalDateTime now) {
+        int transitioned = 0;
+        Map<Long, List<Transition>> byUser = new LinkedHashMap<>();
+        chunk.forEach(transition -> byUser.computeIfAbsent(transition.getUserId(), id -> new ArrayList<>()).add(transition));
+        for (Map.Entry<Long, List<Transition>> entry : byUser.entrySet()) {
+            try {
+                transitioned += transitionChunk(entry.getValue(), now);
+            } catch (Exception e) {
+                log.error("식재료 상태 전이 실패 - 사용자 ID: {}, 재고 수: {}", entry.getKey(), entry.getValue().size(), e);
+                retryLater(entry.getValue(), now);
+            }
+        }
+        return transitioned;
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 처리합니다. 상태 변경과 알람 저장이 함께 커밋되므로
+     * DB 상태 자체가 진행 지점이 되어, 중간에 실패하거나 서버가 재시작되어도 남은 재고만 다시 처리됩니다.
+     */
+    private int transitionChunk(List<Transition> chunk, LocalDateTime now) {
+        List<Long> expiredIds = idsOf(chunk, FoodStatus.EXPIRED);
+        List<Long> expiringSoonIds = idsOf(chunk, FoodStatus.EXPIRING_SOON);
+
+        Map<Long, List<NotificationDraft.ExpiryItem>> itemsByUser = transactionTemplate.execute(status -> {
+            Map<Long, List<NotificationDraft.ExpiryItem>> transitioned = new LinkedHashMap<>();
+            // 큐는 예약일 뿐이므로 실제로 조건을 만족하는 행만 잠그고 바꿈
+            // 만료를 먼저 반영하므로 같은 주기에 두 전이가 모두 도래한 재고는 임박 조건에서 자연히 빠짐
+            if (!expiredIds.isEmpty()) {
+                markTransitioned(transitioned, FoodStatus.EXPIRED, NotificationType.EXPIRED,
+                        foodInventoryRepository.lockExpiredCandidates(expiredIds, now.toLocalDate().plusDays(1).atStartOfDay()));
+            }
+            if (!expiringSoonIds.isEmpty()) {
+                markTransitioned(transitioned, FoodStatus.EXPIRING_SOON, NotificationType.EXPIRING_SOON,
+                        foodInventoryRepository.lockExpiringSoonCandidates(expiringSoonIds, now, now.plusDays(EXPIRING_SOON_DAYS)));
+            }
+            notificationService.createNotifications(toDrafts(transitioned));
+            return transitioned;
+        });
+
+        // 만료/임박 재료는 추천 순위에 영향을 주므로 사용자별 재고 캐시 무효화
+        itemsByUser.keySet().forEach(userInventoryCache::invalidate);
+
+        return itemsByUser.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void markTransitioned(Map<Long, List<NotificationDraft.ExpiryItem>> transitioned, FoodStatus targetStatus,
+                       NotificationType type, List<FoodInventoryRepository.ExpirationCandidateProjection> locked) {
+        if (locked.isEmpty()) {
+            return;
+        }
+
+        foodInventoryRepository.updateStatusByIds(
+                locked.stream().map(FoodInventoryRepository.ExpirationCandidateProjection::getId).toList(),
+                targetStatus);
+        for (FoodInventoryRepository.ExpirationCandidateProjection candidate : locked) {
+            transitioned.computeIfAbsent(candidate.getUserId(), userId -> new ArrayList<>())
+                    .add(new NotificationDraft.ExpiryItem(candidate.getId(), candidate.getIngredientName(),
+                            candidate.getExpirationDate(), type));
+        }
+    }
+
+    /**
+     * 요약 알람을 선택한 사용자는 한 건으로, 나머지는 식재료별로 알람을 만듭니다.
+     */
+    private List<NotificationDraft> toDrafts(Map<Long, List<NotificationDraft.ExpiryItem>> itemsByUser) {
+        if (itemsByUser.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> digestUserIds = notificationService.findExpiryDigestUserIds(itemsByUser.keySet());
+        List<NotificationDraft> drafts = new ArrayList<>();
+        itemsByUser.forEach((userId, items) -> {
+            if (digestUserIds.contains(userId)) {
+                drafts.add(NotificationDraft.expiryDigest(userId, items));
+                return;
+            }
+            for (NotificationDraft.ExpiryItem item : items) {
+                drafts.add(item.getType() == NotificationType.EXPIRED
+                        ? NotificationDraft.expired(userId, item.getIngredientName(), item.getExpirationDate())
+                        : NotificationDraft.expiringSoon(userId, item.getIngredientName(), item.getExpirationDate()));
+            }
+        });
+        return drafts;
+    }
+
+    private static List<Long> idsOf(List<Transition> transitions, FoodStatus targetStatus) {
+        return transitions.stream()
+                .filter(transition -> transition.getTargetStatus() == targetStatus)
+                .map(Transition::getInventoryId)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 실패한 전이를 주기의 2배씩 늦춰 (최대 1시간) 다시 예약합니다.
+     * 최대 시도 횟수를 넘긴 전이는 버리며, DB 상태는 그대로이므로 새벽 재구성 때 다시 예약됩니다.
+     */
+    private synchronized void retryLater(List<Transition> transitions, LocalDateTime now) {
+        for (Transition transition : transitions) {
+            int attempts = transition.getAttempts() + 1;
+            if (attempts >= retryMaxAttempts) {
+                log.warn("식재료 상태 전이를 {}회 실패해 재구성 때까지 보류합니다. 재고 ID: {}, 목표 상태: {}",
+                        attempts, transition.getInventoryId(), transition.getTargetStatus());
+                continue;
+            }
+
+            if (transition.getTargetStatus() == FoodStatus.EXPIRED) {
+                // 처리 중에 수정/삭제 이벤트가 들어왔다면 그 예약을 따름
+                scheduledExpirations.putIfAbsent(transition.getInventoryId(), transition.getExpirationDate());
+            }
+            long backoffMillis = Math.min(tickMillis << Math.min(attempts - 1, 20), MAX_RETRY_BACKOFF.toMillis());
+            queue.add(transition.retry(attempts, now.plus(Duration.ofMillis(backoffMillis))));
+        }
+    }
+
+    private static void apply(PriorityQueue<Transition> queue, Map<Long, LocalDateTime> expirations,
+                              FoodInventoryChangedEvent event) {
+        if (event.isDeleted()) {
+            expirations.remove(event.getInventoryId());
+            return;
+        }
+        schedule(queue, expirations, event.getInventoryId(), event.getUserId(), event.getExpirationDate(), event.getStatus());
+    }
+
+    private static void schedule(PriorityQueue<Transition> queue, Map<Long, LocalDateTime> expirations,
+                                 Long inventoryId, Long userId, LocalDateTime expirationDate, FoodStatus status) {
+        if (expirationDate == null || !SCHEDULED_STATUSES.contains(status)) {
+            expirations.remove(inventoryId);
+            return;
+        }
+
+        expirations.put(inventoryId, expirationDate);
+        if (status == FoodStatus.NORMAL) {
+            queue.add(new Transition(inventoryId, userId, expirationDate, FoodStatus.EXPIRING_SOON,
+                    expirationDate.minusDays(EXPIRING_SOON_DAYS), 0));
+        }
+        // 유통기한 당일 자정부터 만료로 처리
+        queue.add(new Transition(inventoryId, userId, expirationDate, FoodStatus.EXPIRED,
+                expirationDate.toLocalDate().atStartOfDay(), 0));
+    }
+
+    /**
+     * 예약된 상태 전이 (재고, 소유 사용자, 예약 기준 유통기한, 목표 상태, 전이 시각, 실패한 횟수)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Transition {
+
+        private static final Comparator<Transition> DUE_ORDER = Comparator.comparing(Transition::getDueAt);
+
+        private final Long inventoryId;
+        private final Long userId;
+        private final LocalDateTime expirationDate;
+        private final FoodStatus targetStatus;
+        private final LocalDateTime dueAt;
+        private final int attempts;
+
+        Transition retry(int attempts, LocalDateTime dueAt) {
+            return new Transition(inventoryId, userId, expirationDate, targetStatus, dueAt, attempts);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.config.NotificationRetentionProperties;
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import com.example.ingredients_ms.global.alarm.repository.NotificationArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 알람 저장소 계층 관리
+ * 본 테이블(notification)에는 읽지 않은 알람과 최근 hot-days 이내 알람만 남기고,
+ * 그보다 오래된 읽은 알람은 id 범위 단위로 월별 아카이브 테이블로 옮깁니다. (복사와 삭제는 같은 트랜잭션)
+ * 아카이브에서도 타입별 보관 기간이 지난 알람은 매일 삭제하고(조회 시에도 제외), 가장 긴 보관 기간이 지난 달의 테이블은 통째로 삭제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationArchiver {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationRetentionProperties retentionProperties;
+
+    @Value("${custom.notification.archive.hot-days:14}")
+    private int hotDays;
+
+    @Value("${custom.notification.archive.batch-size:5000}")
+    private int batchSize;
+
+    /**
+     * 이 시각 이후에 생성된 알람은 아직 본 테이블에 있음이 보장됩니다.
+     */
+    public LocalDateTime hotTierBoundary() {
+        return LocalDateTime.now().minusDays(hotDays);
+    }
+
+    /**
+     * 알람 아카이브 스케줄러 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "${custom.notification.archive.cron:0 0 4 * * *}")
+    public void run() {
+        try {
+            long archived = archive();
+            long expired = deleteExpiredFromArchives();
+            int dropped = dropExpiredArchives();
+            log.info("알람 아카이브 완료 - 이동 {}건, 보관 기간이 지나 삭제 {}건, 삭제한 아카이브 테이블 {}개", archived, expired, dropped);
+        } catch (Exception e) {
+            log.error("알람 아카이브 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * @return 아카이브로 옮긴 알람 수
+     */
+    public long archive() {
+        LocalDateTime cutoff = hotTierBoundary();
+
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM notification", Long.class);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM notification WHERE created_at < ?", Long.class, Timestamp.valueOf(cutoff));
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        long archived = 0;
+        for (long from = minId; from <= maxId; from += batchSize) {
+            try {
+                archived += archiveRange(from, from + batchSize, cutoff);
+            } catch (Exception e) {
+                // 실패한 범위는 롤백되어 본 테이블에 그대로 남으므로 다음 주기에 다시 시도
+                log.error("알람 아카이브 실패 - id {} ~ {}", from, from + batchSize - 1, e);
+            }
+        }
+        return archived;
+    }
+
+    private int archiveRange(long fromId, long toId, LocalDateTime cutoff) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(created_at) AS min_created_at, MAX(created_at) AS max_created_at FROM notification "
+                        + "WHERE id >= ? AND id < ? AND is_read = TRUE AND created_at < ?",
+                fromId, toId, Timestamp.valueOf(cutoff));
+        Timestamp minCreatedAt = (Timestamp) range.get("min_created_at");
+        Timestamp maxCreatedAt = (Timestamp) range.get("max_created_at");
+        if (minCreatedAt == null || maxCreatedAt == null) {
+            return 0;
+        }
+
+        YearMonth firstMonth = YearMonth.from(minCreatedAt.toLocalDateTime());
+        YearMonth lastMonth = YearMonth.from(maxCreatedAt.toLocalDateTime());
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            notificationArchiveRepository.createTableIfNotExists(month);
+        }
+
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = 0;
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                copied += notificationArchiveRepository.copyFromNotification(month, fromId, toId, cutoff);
+            }
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM notification WHERE id >= ? AND id < ? AND is_read = TRUE AND created_at < ?",
+                    fromId, toId, Timestamp.valueOf(cutoff));
+
+            // 조회와 복사 사이에 읽음 처리된 알람이 있으면 월 범위가 달라질 수 있으므로 이 범위는 다음 주기로 미룸
+            if (copied != deleted) {
+                throw new IllegalStateException("복사 " + copied + "건 / 삭제 " + deleted + "건 불일치");
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /**
+     * 아카이브 테이블에서 타입별 보관 기간이 지난 알람 삭제
+     *
+     * @return 삭제한 알람 수
+     */
+    public long deleteExpiredFromArchives() {
+        Map<NotificationType, LocalDateTime> expiredBefore = retentionProperties.expiredBefore(LocalDateTime.now());
+        if (expiredBefore.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime latestCutoff = Collections.max(expiredBefore.values());
+
+        long deleted = 0;
+        for (YearMonth month : notificationArchiveRepository.months()) {
+            // 달의 첫 알람도 아직 어느 타입의 보관 기간도 지나지 않았으면 이후 달도 마찬가지
+            if (!month.atDay(1).atStartOfDay().isBefore(latestCutoff)) {
+                break;
+            }
+            try {
+                deleted += notificationArchiveRepository.deleteExpired(month, expiredBefore, batchSize);
+            } catch (Exception e) {
+                log.error("알람 아카이브 보관 기간 정리 실패 - {}", NotificationArchiveRepository.tableName(month), e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 가장 긴 보관 기간보다 오래된 달의 아카이브 테이블 삭제
+     *
+     * @return 삭제한 테이블 수
+     */
+    public int dropExpiredArchives() {
+        Duration longestRetention = retentionProperties.longestRetention();
+        if (longestRetention == null) {
+            return 0;
+        }
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(longestRetention);
+        int dropped = 0;
+        for (YearMonth month : notificationArchiveRepository.months()) {
+            // 달의 마지막 알람까지 보관 기간이 지난 경우에만 삭제
+            if (!month.plusMonths(1).atDay(1).atStartOfDay().isBefore(expiredBefore)) {
+                break;
+            }
+            notificationArchiveRepository.dropTable(month);
+            dropped++;
+        }
+        return dropped;
+    }
+}
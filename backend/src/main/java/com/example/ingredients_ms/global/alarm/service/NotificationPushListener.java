@@ -0,0 +1,42 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.global.alarm.event.NotificationsCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 일괄 생성된 알람을 커밋 이후 SSE 로 발송합니다.
+ * 브로커 발행은 가상 스레드에서 사용자별로 처리해 스케줄러 스레드를 붙잡지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPushListener {
+
+    private final SseService sseService;
+
+    private final ExecutorService pushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        event.getNotificationsByUser().forEach((userId, notifications) -> pushExecutor.execute(() -> {
+            try {
+                notifications.forEach(notification -> sseService.sendNotification(userId, notification));
+            } catch (Exception e) {
+                log.error("SSE 일괄 알람 발송 실패 - 사용자 ID: {}", userId, e);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdown();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.config.NotificationRetentionProperties;
+import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 보관 기간이 지난 알람 정리
+ * 엔티티를 메모리에 올리지 않고 id 범위 단위로 나눠 DELETE 하며, 배치마다 자동 커밋되어 락을 오래 잡지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionCleaner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRetentionProperties retentionProperties;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+
+    /**
+     * @return 삭제한 알람 수
+     */
+    public long cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 타입별 삭제 조건 (type = ? AND created_at < ?)
+        StringJoiner conditions = new StringJoiner(" OR ", "(", ")");
+        List<Object> conditionArgs = new ArrayList<>();
+        LocalDateTime latestCutoff = null;
+        for (NotificationType type : NotificationType.values()) {
+            Duration retention = retentionProperties.retentionOf(type);
+            if (retention == null || retention.isZero() || retention.isNegative()) {
+                continue;
+            }
+            LocalDateTime cutoff = now.minus(retention);
+            conditions.add("(type = ? AND created_at < ?)");
+            conditionArgs.add(type.name());
+            conditionArgs.add(Timestamp.valueOf(cutoff));
+            if (latestCutoff == null || cutoff.isAfter(latestCutoff)) {
+                latestCutoff = cutoff;
+            }
+        }
+        if (latestCutoff == null) {
+            return 0;
+        }
+
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM notification", Long.class);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM notification WHERE created_at < ?", Long.class, Timestamp.valueOf(latestCutoff));
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        String deleteSql = "DELETE FROM notification WHERE id >= ? AND id < ? AND " + conditions;
+        String unreadUsersSql = "SELECT DISTINCT user_id FROM notification WHERE id >= ? AND id < ? AND is_read = FALSE AND " + conditions;
+        int batchSize = retentionProperties.getBatchSize();
+        long deleted = 0;
+
+        for (long from = minId; from <= maxId; from += batchSize) {
+            Object[] args = argsOf(from, from + batchSize, conditionArgs);
+
+            // 읽지 않은 알람이 지워지는 사용자는 카운터 정산 대상으로 표시
+            List<Long> unreadUserIds = jdbcTemplate.queryForList(unreadUsersSql, Long.class, args);
+            deleted += jdbcTemplate.update(deleteSql, args);
+            notificationUnreadCounter.markDirty(unreadUserIds);
+
+            log.info("오래된 알람 정리 진행 - id {} / {}, 삭제 {}건", Math.min(from + batchSize - 1, maxId), maxId, deleted);
+            if (!pause()) {
+                break;
+            }
+        }
+
+        return deleted;
+    }
+
+    private static Object[] argsOf(long fromId, long toId, List<Object> conditionArgs) {
+        List<Object> args = new ArrayList<>(conditionArgs.size() + 2);
+        args.add(fromId);
+        args.add(toId);
+        args.addAll(conditionArgs);
+        return args.toArray();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(retentionProperties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("오래된 알람 정리 중단 - 다음 주기에 이어서 처리합니다.");
+            return false;
+        }
+    }
+}
@@ -1,23 +1,40 @@
 package com.example.ingredients_ms.global.alarm.service;
 
+import com.example.ingredients_ms.config.NotificationRetentionProperties;
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.domain.user.repository.UserRepository;
+import com.example.ingredients_ms.global.alarm.dto.NotificationDraft;
+import com.example.ingredients_ms.global.alarm.dto.NotificationPageResponseDto;
 import com.example.ingredients_ms.global.alarm.dto.NotificationResponseDto;
+import com.example.ingredients_ms.global.alarm.entity.ExpiryNotificationMode;
 import com.example.ingredients_ms.global.alarm.entity.Notification;
 import com.example.ingredients_ms.global.alarm.entity.NotificationType;
+import com.example.ingredients_ms.global.alarm.event.NotificationsCreatedEvent;
+import com.example.ingredients_ms.global.alarm.event.UnreadCountChangedEvent;
+import com.example.ingredients_ms.global.alarm.repository.NotificationArchiveRepository;
 import com.example.ingredients_ms.global.alarm.repository.NotificationRepository;
 import com.example.ingredients_ms.global.exeption.BusinessLogicException;
 import com.example.ingredients_ms.global.exeption.ExceptionCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +45,19 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final SseService sseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationArchiver notificationArchiver;
+    private final NotificationRetentionProperties retentionProperties;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String BULK_INSERT_SQL = """
+            INSERT INTO notification (user_id, type, title, message, data, is_read, created_at, modified_at)
+            VALUES (?, ?, ?, ?, ?, FALSE, ?, ?)
+            """;
 
     @Value("${custom.admin.main-email}")
     private String adminEmail;
@@ -50,6 +80,7 @@ public class NotificationService {
                 .build();
 
         Notification savedNotification = notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(userId, 1));
         
         // SSE로 실시간 알람 발송
         NotificationResponseDto responseDto = NotificationResponseDto.fromEntity(savedNotification);
@@ -95,12 +126,7 @@ public class NotificationService {
      */
     @Transactional
     public Notification createExpiringSoonNotification(Long userId, String ingredientName, LocalDateTime expirationDate) {
-        String title = "식재료 만료 임박";
-        String message = String.format("'%s'이(가) %s에 만료됩니다.", ingredientName, expirationDate.toLocalDate());
-        String data = String.format("{\"ingredientName\":\"%s\",\"expirationDate\":\"%s\"}", 
-                ingredientName, expirationDate.toString());
-
-        return createNotification(userId, NotificationType.EXPIRING_SOON, title, message, data);
+        return createNotification(NotificationDraft.expiringSoon(userId, ingredientName, expirationDate));
     }
 
     /**
@@ -108,33 +134,173 @@ public class NotificationService {
      */
     @Transactional
     public Notification createExpiredNotification(Long userId, String ingredientName, LocalDateTime expirationDate) {
-        String title = "식재료 만료";
-        String message = String.format("'%s'이(가) %s에 만료되었습니다.", ingredientName, expirationDate.toLocalDate());
-        String data = String.format("{\"ingredientName\":\"%s\",\"expirationDate\":\"%s\"}", 
-                ingredientName, expirationDate.toString());
+        return createNotification(NotificationDraft.expired(userId, ingredientName, expirationDate));
+    }
 
-        return createNotification(userId, NotificationType.EXPIRED, title, message, data);
+    private Notification createNotification(NotificationDraft draft) {
+        return createNotification(draft.getUserId(), draft.getType(), draft.getTitle(), draft.getMessage(), draft.getData());
     }
 
     /**
-     * 사용자의 알람 목록 조회
+     * 알람 일괄 생성 (스케줄러용)
+     * 사용자 조회 없이 JDBC 배치 insert 로 저장하고, 호출한 트랜잭션이 커밋된 뒤 SSE 로 비동기 발송합니다.
+     * 사용자 ID 는 호출 측에서 이미 검증된 값이어야 합니다.
+     *
+     * @return 저장된 알람 수
      */
-    public List<Notification> getUserNotifications(Long userId, int page, int size) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+    @Transactional
+    public int createNotifications(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(BULK_INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationDraft draft = drafts.get(i);
+                        ps.setLong(1, draft.getUserId());
+                        ps.setString(2, draft.getType().name());
+                        ps.setString(3, draft.getTitle());
+                        ps.setString(4, draft.getMessage());
+                        ps.setString(5, draft.getData());
+                        ps.setTimestamp(6, Timestamp.valueOf(now));
+                        ps.setTimestamp(7, Timestamp.valueOf(now));
+                    }
 
-        Pageable pageable = PageRequest.of(page, size);
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+                    @Override
+                    public int getBatchSize() {
+                        return drafts.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        Map<Long, List<NotificationResponseDto>> notificationsByUser = new LinkedHashMap<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            NotificationDraft draft = drafts.get(i);
+            Long id = i < keys.size() ? ((Number) keys.get(i).values().iterator().next()).longValue() : null;
+            notificationsByUser.computeIfAbsent(draft.getUserId(), userId -> new ArrayList<>())
+                    .add(NotificationResponseDto.builder()
+                            .id(id)
+                            .type(draft.getType())
+                            .title(draft.getTitle())
+                            .message(draft.getMessage())
+                            .data(draft.getData())
+                            .isRead(false)
+                            .createdAt(now)
+                            .build());
+        }
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(notificationsByUser));
+
+        return drafts.size();
+    }
+
+    /**
+     * 사용자의 알람 목록 조회 (키셋 페이지네이션, 최신순)
+     * 본 테이블과 아카이브를 각각 (created_at, id) 순으로 읽어 병합합니다.
+     * 본 테이블만으로 한 페이지가 채워지고 모두 아카이브 경계 이후 알람이면 아카이브는 조회하지 않습니다.
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 100)
+     */
+    public NotificationPageResponseDto getUserNotifications(Long userId, String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeCursor(cursor);
+            cursorCreatedAt = parseCursorValue(decoded[0], LocalDateTime::parse);
+            cursorId = parseCursorValue(decoded[1], Long::parseLong);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<NotificationResponseDto> hot = (cursorCreatedAt == null
+                ? notificationRepository.findPageByUserId(userId, pageable)
+                : notificationRepository.findPageByUserIdAfter(userId, cursorCreatedAt, cursorId, pageable))
+                .stream()
+                .map(NotificationResponseDto::fromEntity)
+                .toList();
+
+        List<NotificationResponseDto> merged = hot;
+        boolean hotCoversPage = hot.size() > size
+                && !hot.get(hot.size() - 1).getCreatedAt().isBefore(notificationArchiver.hotTierBoundary());
+        if (!hotCoversPage) {
+            List<NotificationResponseDto> archived =
+                    notificationArchiveRepository.findByUserIdBefore(userId, cursorCreatedAt, cursorId, size + 1,
+                            retentionProperties.expiredBefore(LocalDateTime.now()));
+            merged = mergeLatestFirst(hot, archived, size + 1);
+        }
+
+        boolean hasNext = merged.size() > size;
+        List<NotificationResponseDto> notifications = hasNext ? merged.subList(0, size) : merged;
+
+        return NotificationPageResponseDto.builder()
+                .notifications(notifications)
+                .nextCursor(hasNext ? encodeCursor(notifications.get(notifications.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 두 목록 모두 (created_at, id) 내림차순으로 정렬되어 있음
+    private static List<NotificationResponseDto> mergeLatestFirst(List<NotificationResponseDto> first,
+                                                                  List<NotificationResponseDto> second,
+                                                                  int limit) {
+        Comparator<NotificationResponseDto> latestFirst = Comparator
+                .comparing(NotificationResponseDto::getCreatedAt)
+                .thenComparing(NotificationResponseDto::getId)
+                .reversed();
+
+        List<NotificationResponseDto> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && latestFirst.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    // 커서 형식: Base64URL("{생성 시각}_{알람 ID}")
+    private String encodeCursor(NotificationResponseDto last) {
+        String raw = last.getCreatedAt().toString() + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            }
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    private <T> T parseCursorValue(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
     }
 
     /**
      * 사용자의 읽지 않은 알람 개수 조회
      */
     public long getUnreadNotificationCount(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
-
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        return notificationUnreadCounter.getUnreadCount(userId);
     }
 
     /**
@@ -142,15 +308,25 @@ public class NotificationService {
      */
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.NOTIFICATION_NOT_FOUND));
+        Notification notification = notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            // 아카이브된 알람은 이미 읽은 알람
+            if (notificationArchiveRepository.existsByIdAndUserId(notificationId, userId)) {
+                return;
+            }
+            throw new BusinessLogicException(ExceptionCode.NOTIFICATION_NOT_FOUND);
+        }
 
         if (!notification.getUser().getId().equals(userId)) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_DENIED);
         }
 
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            return;
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(userId, -1));
     }
 
     /**
@@ -158,12 +334,39 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(Long userId) {
+        notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        eventPublisher.publishEvent(UnreadCountChangedEvent.reset(userId));
+    }
+
+    /**
+     * 유통기한 알람 수신 방식 조회
+     */
+    public ExpiryNotificationMode getExpiryNotificationMode(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+
+        return user.getExpiryNotificationMode() == null ? ExpiryNotificationMode.ITEM : user.getExpiryNotificationMode();
+    }
+
+    /**
+     * 유통기한 알람 수신 방식 변경
+     */
+    @Transactional
+    public void updateExpiryNotificationMode(Long userId, ExpiryNotificationMode mode) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
-        unreadNotifications.forEach(Notification::markAsRead);
-        notificationRepository.saveAll(unreadNotifications);
+        user.setExpiryNotificationMode(mode);
+    }
+
+    /**
+     * 주어진 사용자 중 유통기한 요약 알람을 선택한 사용자 ID
+     */
+    public Set<Long> findExpiryDigestUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userRepository.findIdsByExpiryNotificationMode(userIds, ExpiryNotificationMode.DIGEST));
     }
 
     /**
@@ -171,27 +374,21 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId, Long userId) {
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.NOTIFICATION_NOT_FOUND));
+        Notification notification = notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            if (notificationArchiveRepository.deleteByIdAndUserId(notificationId, userId) == 0) {
+                throw new BusinessLogicException(ExceptionCode.NOTIFICATION_NOT_FOUND);
+            }
+            return;
+        }
 
         if (!notification.getUser().getId().equals(userId)) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_DENIED);
         }
 
         notificationRepository.delete(notification);
-    }
-
-    /**
-     * 오래된 알람 정리 (30일 이전)
-     */
-    @Transactional
-    public void cleanupOldNotifications() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<Notification> oldNotifications = notificationRepository.findByCreatedAtBefore(thirtyDaysAgo);
-        
-        if (!oldNotifications.isEmpty()) {
-            notificationRepository.deleteAll(oldNotifications);
-            log.info("{}개의 오래된 알람을 삭제했습니다.", oldNotifications.size());
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.added(userId, -1));
         }
     }
 }
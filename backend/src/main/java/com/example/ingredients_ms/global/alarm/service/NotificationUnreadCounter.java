@@ -0,0 +1,124 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.global.alarm.counter.UnreadCountStore;
+import com.example.ingredients_ms.global.alarm.event.NotificationsCreatedEvent;
+import com.example.ingredients_ms.global.alarm.event.UnreadCountChangedEvent;
+import com.example.ingredients_ms.global.alarm.repository.NotificationRepository;
+import com.example.ingredients_ms.global.util.Ut;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 알람 수 카운터
+ * 알람 생성/읽음/삭제 시점에 커밋 이후 카운터를 증감하고 바뀐 값을 SSE(unread-count 이벤트)로 보냅니다.
+ * 값이 없을 때만 DB 에서 세고, 변경된 사용자는 주기적으로 DB 기준으로 다시 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final UnreadCountStore unreadCountStore;
+    private final NotificationRepository notificationRepository;
+    private final SseService sseService;
+
+    @Value("${custom.notification.unread-count.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    public long getUnreadCount(Long userId) {
+        Long count = unreadCountStore.get(userId);
+        return count != null ? count : loadIfAbsent(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (event.isReset()) {
+            unreadCountStore.set(event.getUserId(), 0);
+            unreadCountStore.markDirty(event.getUserId());
+            push(event.getUserId(), 0);
+            return;
+        }
+        add(event.getUserId(), event.getDelta());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        event.getNotificationsByUser().forEach((userId, notifications) -> add(userId, notifications.size()));
+    }
+
+    private void add(Long userId, long delta) {
+        try {
+            Long count = unreadCountStore.addIfPresent(userId, delta);
+            if (count == null) {
+                // 동시에 커밋된 다른 변경보다 먼저 센 값이 남을 수 있으므로 정산 대상으로도 표시
+                count = loadIfAbsent(userId);
+                unreadCountStore.markDirty(userId);
+            } else if (count < 0) {
+                count = reload(userId);
+            } else {
+                unreadCountStore.markDirty(userId);
+            }
+            push(userId, count);
+        } catch (Exception e) {
+            // 카운터 반영 실패는 알람 처리 결과에 영향을 주지 않음 (정산 시 DB 기준으로 복구)
+            log.error("읽지 않은 알람 수 반영 실패 - 사용자 ID: {}", userId, e);
+        }
+    }
+
+    /**
+     * 알람이 일괄 삭제된 사용자처럼 증감분을 모르는 경우 다음 정산 때 DB 기준으로 맞춥니다.
+     */
+    public void markDirty(Collection<Long> userIds) {
+        userIds.forEach(unreadCountStore::markDirty);
+    }
+
+    /**
+     * 최근 변경된 사용자의 카운터를 DB 기준으로 다시 맞춥니다. (기본 1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${custom.notification.unread-count.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        List<Long> userIds;
+        do {
+            userIds = unreadCountStore.popDirty(reconcileBatchSize);
+            for (Long userId : userIds) {
+                Long cached = unreadCountStore.get(userId);
+                long actual = reload(userId);
+                if (cached != null && cached != actual) {
+                    log.info("읽지 않은 알람 수 보정 - 사용자 ID: {}, {} -> {}", userId, cached, actual);
+                    push(userId, actual);
+                }
+            }
+        } while (userIds.size() == reconcileBatchSize);
+    }
+
+    /**
+     * 값이 없을 때만 DB 에서 센 값으로 채웁니다.
+     * 세는 사이 다른 요청이 먼저 채우고 증감했다면 그 값이 더 최신이므로 덮어쓰지 않습니다.
+     */
+    private long loadIfAbsent(Long userId) {
+        return unreadCountStore.setIfAbsent(userId, notificationRepository.countByUser_IdAndIsReadFalse(userId));
+    }
+
+    /**
+     * DB 에서 센 값으로 덮어씁니다. (정산, 음수로 어긋난 값 복구)
+     */
+    private long reload(Long userId) {
+        long count = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+        unreadCountStore.set(userId, count);
+        return count;
+    }
+
+    private void push(Long userId, long count) {
+        sseService.sendEvent(userId, UNREAD_COUNT_EVENT, Ut.mapOf("count", count));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * SSE 연결 하나와 그 연결 전용 발송 큐
+ * 큐에는 이벤트를 만드는 함수를 넣습니다. (SseEventBuilder 는 전송할 때마다 내부 상태가 바뀌어 연결 간에 공유할 수 없음)
+ */
+public class SseConnection {
+
+    @Getter
+    private final Long userId;
+
+    @Getter
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> queue;
+    private final Runnable onClose;
+
+    // 발송 스레드가 이 연결의 큐를 비우는 중인지 (연결당 한 스레드만 전송해 순서를 보장)
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    SseConnection(Long userId, SseEmitter emitter, int capacity, Runnable onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.onClose = onClose;
+    }
+
+    boolean offer(Supplier<SseEmitter.SseEventBuilder> event) {
+        return queue.offer(event);
+    }
+
+    Supplier<SseEmitter.SseEventBuilder> poll() {
+        return queue.poll();
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    boolean tryStartDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 연결을 닫힌 상태로 표시하고 남은 이벤트를 버립니다.
+     *
+     * @return 이번 호출로 닫혔으면 true (정리 작업은 이때 한 번만 실행)
+     */
+    boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        return true;
+    }
+
+    void runOnClose() {
+        onClose.run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * SSE 발송 디스패처
+ * 호출한 스레드는 연결별 큐에 이벤트를 넣기만 하고, 실제 전송은 가상 스레드가 연결마다 순서대로 처리합니다.
+ * 큐가 가득 찬 느린 연결은 overflow-policy 에 따라 이벤트를 버리거나 연결을 닫습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseDispatcher {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, // 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+        DROP_NEWEST, // 새 이벤트를 버림
+        CLOSE        // 연결을 닫음 (클라이언트가 재연결)
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.sse.queue.capacity:100}")
+    private int queueCapacity;
+
+    @Value("${custom.sse.queue.overflow-policy:DROP_OLDEST}")
+    private OverflowPolicy overflowPolicy;
+
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+
+    private Counter droppedEvents;
+    private Counter closedSlowConnections;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("sse.queue.depth", connections, all -> all.stream().mapToInt(SseConnection::queueSize).sum())
+                .description("전송 대기 중인 SSE 이벤트 수 (전체 연결 합계)")
+                .register(meterRegistry);
+        droppedEvents = Counter.builder("sse.events.dropped")
+                .description("큐가 가득 차 버려진 SSE 이벤트 수")
+                .register(meterRegistry);
+        closedSlowConnections = Counter.builder("sse.connections.closed.slow")
+                .description("큐가 가득 차 닫힌 느린 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * emitter 를 발송 대상으로 등록합니다.
+     *
+     * @param onClose 연결이 닫힐 때 한 번 실행할 정리 작업
+     */
+    public SseConnection open(Long userId, SseEmitter emitter, Runnable onClose) {
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, onClose);
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * 연결을 발송 대상에서 제거합니다. (emitter 완료/타임아웃/에러 콜백에서 호출)
+     */
+    public void close(SseConnection connection) {
+        if (connection.markClosed()) {
+            connections.remove(connection);
+            connection.runOnClose();
+        }
+    }
+
+    /**
+     * 이벤트를 연결의 큐에 넣고 바로 반환합니다.
+     */
+    public void send(SseConnection connection, Supplier<SseEmitter.SseEventBuilder> event) {
+        if (connection.isClosed()) {
+            return;
+        }
+
+        if (!connection.offer(event) && !handleOverflow(connection, event)) {
+            return;
+        }
+
+        if (connection.tryStartDraining()) {
+            sendExecutor.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * @return 새 이벤트가 큐에 들어갔으면 true
+     */
+    private boolean handleOverflow(SseConnection connection, Supplier<SseEmitter.SseEventBuilder> event) {
+        switch (overflowPolicy) {
+            case CLOSE -> {
+                int pending = connection.queueSize();
+                if (connection.markClosed()) {
+                    closedSlowConnections.increment();
+                    droppedEvents.increment(pending + 1);
+                    log.warn("SSE 발송 큐 초과로 연결 종료 - 사용자 ID: {}", connection.getUserId());
+                    // 호출 측이 연결 목록을 갱신하는 중일 수 있으므로 정리는 발송 스레드에서 처리
+                    sendExecutor.execute(() -> {
+                        connections.remove(connection);
+                        connection.runOnClose();
+                        connection.getEmitter().complete();
+                    });
+                }
+                return false;
+            }
+            case DROP_OLDEST -> {
+                connection.poll();
+                droppedEvents.increment();
+                if (connection.offer(event)) {
+                    return true;
+                }
+                droppedEvents.increment();
+                return false;
+            }
+            default -> {
+                droppedEvents.increment();
+                return false;
+            }
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while ((event = connection.poll()) != null) {
+                try {
+                    connection.getEmitter().send(event.get());
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE 전송 실패로 연결 종료 - 사용자 ID: {}", connection.getUserId(), e);
+                    close(connection);
+                    return;
+                }
+            }
+            connection.stopDraining();
+            // 큐를 비운 직후 들어온 이벤트는 여기서 다시 맡음 (send 쪽이 이미 맡았다면 종료)
+        } while (connection.queueSize() > 0 && connection.tryStartDraining());
+    }
+}
@@ -1,29 +1,34 @@
 package com.example.ingredients_ms.global.alarm.service;
 
 import com.example.ingredients_ms.global.util.Ut;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.catalina.connector.ClientAbortException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class SseEmitters {
+    // 발송은 호출 스레드가 아닌 디스패처에서 연결별 큐로 처리
+    private final SseDispatcher sseDispatcher;
+
     // Thread-safe한 List를 사용하여 다중 클라이언트의 SSE 연결들을 관리
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final List<SseConnection> connections = new CopyOnWriteArrayList<>();
 
     // 새로운 SSE 연결을 추가하고 관련 콜백을 설정하는 메서드
     public SseEmitter add(SseEmitter emitter) {
-        this.emitters.add(emitter);
+        SseConnection connection = sseDispatcher.open(null, emitter,
+                () -> this.connections.removeIf(it -> it.getEmitter() == emitter));
+        this.connections.add(connection);
 
         // 클라이언트와의 연결이 완료되면 컬렉션에서 제거하는 콜백
         emitter.onCompletion(() -> {
-            this.emitters.remove(emitter);
+            sseDispatcher.close(connection);
         });
 
         // 연결이 타임아웃되면 완료 처리하는 콜백
@@ -31,6 +36,11 @@ public class SseEmitters {
             emitter.complete();
         });
 
+        // 에러가 나면 컬렉션에서 제거하는 콜백
+        emitter.onError((ex) -> {
+            sseDispatcher.close(connection);
+        });
+
         return emitter;
     }
 
@@ -40,20 +50,10 @@ public class SseEmitters {
     }
 
     // 모든 연결된 클라이언트들에게 이벤트를 전송하는 메서드
+    // 큐에 넣기만 하므로 느리거나 끊긴 클라이언트가 있어도 나머지 전송이 중단되지 않음
     public void noti(String eventName, Map<String, Object> data) {
-        // 모든 emitter에 대해 반복하며 이벤트 전송
-        emitters.forEach(emitter -> {
-            try {
-                emitter.send(
-                        SseEmitter.event()
-                                .name(eventName)    // 이벤트 이름 설정
-                                .data(data)         // 전송할 데이터 설정
-                );
-            } catch (ClientAbortException e) {
-                // 클라이언트가 연결을 강제로 종료한 경우 무시
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        connections.forEach(connection -> sseDispatcher.send(connection, () -> SseEmitter.event()
+                .name(eventName)    // 이벤트 이름 설정
+                .data(data)));      // 전송할 데이터 설정
     }
 }
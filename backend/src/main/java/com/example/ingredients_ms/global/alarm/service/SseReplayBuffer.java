@@ -0,0 +1,104 @@
+package com.example.ingredients_ms.global.alarm.service;
+
+import com.example.ingredients_ms.global.alarm.broker.SseMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SSE 재연결 시 놓친 이벤트를 다시 보내기 위한 사용자별 링 버퍼
+ * 브로커로 모든 노드가 모든 메시지를 받으므로 각 노드가 같은 내용을 들고 있어, 어느 노드로 재연결해도 DB 조회 없이 재전송할 수 있습니다.
+ * 한동안 새 이벤트가 없는 사용자의 버퍼는 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.sse.replay.capacity:50}")
+    private int capacity;
+
+    @Value("${custom.sse.replay.ttl-ms:600000}")
+    private long ttlMillis;
+
+    private final Map<Long, Ring> userRings = new ConcurrentHashMap<>();
+
+    // 전체 브로드캐스트 이벤트
+    private final Ring broadcastRing = new Ring();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("sse.replay.users", userRings, Map::size)
+                .description("재전송 버퍼를 가진 사용자 수")
+                .register(meterRegistry);
+    }
+
+    public void append(SseMessage message) {
+        Ring ring = message.isBroadcast()
+                ? broadcastRing
+                : userRings.computeIfAbsent(message.getUserId(), id -> new Ring());
+        ring.add(message, capacity);
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 ID 순으로 반환합니다. (버퍼에서 밀려난 이벤트는 포함되지 않음)
+     */
+    public List<SseMessage> readAfter(Long userId, long lastEventId) {
+        List<SseMessage> messages = new ArrayList<>(broadcastRing.after(lastEventId));
+        Ring ring = userRings.get(userId);
+        if (ring != null) {
+            messages.addAll(ring.after(lastEventId));
+        }
+        messages.sort(Comparator.comparingLong(SseMessage::getId));
+        return messages;
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        userRings.values().removeIf(ring -> ring.lastAppendedAt() < threshold);
+        broadcastRing.clearIfIdleSince(threshold);
+    }
+
+    private static class Ring {
+
+        private final ArrayDeque<SseMessage> messages = new ArrayDeque<>();
+        private long lastAppendedAt = System.currentTimeMillis();
+
+        synchronized void add(SseMessage message, int capacity) {
+            if (messages.size() >= capacity) {
+                messages.pollFirst();
+            }
+            messages.addLast(message);
+            lastAppendedAt = System.currentTimeMillis();
+        }
+
+        synchronized List<SseMessage> after(long lastEventId) {
+            List<SseMessage> result = new ArrayList<>();
+            for (SseMessage message : messages) {
+                if (message.getId() > lastEventId) {
+                    result.add(message);
+                }
+            }
+            return result;
+        }
+
+        synchronized long lastAppendedAt() {
+            return lastAppendedAt;
+        }
+
+        synchronized void clearIfIdleSince(long threshold) {
+            if (lastAppendedAt < threshold) {
+                messages.clear();
+            }
+        }
+    }
+}
@@ -1,102 +1,219 @@
 package com.example.ingredients_ms.global.alarm.service;
 
+import com.example.ingredients_ms.global.alarm.broker.NotificationBroker;
+import com.example.ingredients_ms.global.alarm.broker.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * SSE 알람 허브
+ * 사용자별로 여러 연결(브라우저 탭/기기)을 유지하고, 발송은 브로커를 거쳐 모든 노드에 전달합니다.
+ * 각 노드는 자기 노드에 연결된 emitter 에만 전송하며, 전송은 SseDispatcher 가 호출 스레드와 분리해 처리합니다.
+ * 이벤트마다 ID 를 붙여 버퍼에 남기고, Last-Event-ID 로 재연결하면 놓친 이벤트를 이어서 보냅니다.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class SseService {
 
-    // 사용자별 SSE 연결을 저장하는 Map
-    private final Map<Long, SseEmitter> userConnections = new ConcurrentHashMap<>();
+    private static final String NOTIFICATION_EVENT = "notification";
+
+    private final NotificationBroker notificationBroker;
+    private final SseDispatcher sseDispatcher;
+    private final SseReplayBuffer sseReplayBuffer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 사용자별 SSE 연결 목록 (이 노드에 연결된 것만)
+    private final Map<Long, List<SseConnection>> userConnections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initialize() {
+        notificationBroker.subscribe(this::deliver);
+
+        Gauge.builder("sse.connections", this, SseService::getConnectionCount)
+                .description("이 노드에 연결된 SSE emitter 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connected.users", userConnections, Map::size)
+                .description("이 노드에 SSE 로 연결된 사용자 수")
+                .register(meterRegistry);
+    }
 
     /**
-     * 사용자 SSE 연결 생성
+     * 사용자 SSE 연결 생성 (기존 연결은 유지)
+     *
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (있으면 그 이후 이벤트를 버퍼에서 재전송)
      */
-    public SseEmitter createConnection(Long userId) {
+    public SseEmitter createConnection(Long userId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(30 * 60 * 1000L); // 30분 타임아웃
-        
+        SseConnection connection = sseDispatcher.open(userId, emitter, () -> detach(userId, emitter));
+
         // 연결 완료 시 정리
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료 - 사용자 ID: {}", userId);
-            userConnections.remove(userId);
+            sseDispatcher.close(connection);
         });
-        
+
         // 타임아웃 시 정리
         emitter.onTimeout(() -> {
             log.info("SSE 연결 타임아웃 - 사용자 ID: {}", userId);
-            userConnections.remove(userId);
+            sseDispatcher.close(connection);
         });
-        
+
         // 에러 시 정리
         emitter.onError((ex) -> {
             log.error("SSE 연결 에러 - 사용자 ID: {}", userId, ex);
-            userConnections.remove(userId);
+            sseDispatcher.close(connection);
+        });
+
+        // deliver 와 같은 키 단위 원자 구간에서 등록과 재전송을 처리해 이벤트가 빠지거나 중복되지 않게 함
+        userConnections.compute(userId, (id, connections) -> {
+            List<SseConnection> updated = connections == null ? new CopyOnWriteArrayList<>() : connections;
+            updated.add(connection);
+            if (lastEventId != null) {
+                sseReplayBuffer.readAfter(userId, lastEventId).forEach(message -> enqueue(connection, message));
+            }
+            return updated;
         });
-        
-        userConnections.put(userId, emitter);
-        log.info("SSE 연결 생성 - 사용자 ID: {}, 총 연결 수: {}", userId, userConnections.size());
-        
+        log.info("SSE 연결 생성 - 사용자 ID: {}, 총 연결 수: {}", userId, getConnectionCount());
+
         return emitter;
     }
 
     /**
-     * 특정 사용자에게 알람 발송
+     * 특정 사용자에게 알람 발송 (사용자가 연결된 노드에서 전송됨)
      */
     public void sendNotification(Long userId, Object data) {
-        SseEmitter emitter = userConnections.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(data));
-                log.info("SSE 알람 발송 성공 - 사용자 ID: {}", userId);
-            } catch (IOException e) {
-                log.error("SSE 알람 발송 실패 - 사용자 ID: {}", userId, e);
-                userConnections.remove(userId);
-            }
-        } else {
-            log.debug("SSE 연결이 없어 알람 발송 불가 - 사용자 ID: {}", userId);
-        }
+        publish(userId, NOTIFICATION_EVENT, data);
+    }
+
+    /**
+     * 특정 사용자에게 이름을 지정한 이벤트 발송 (예: unread-count)
+     */
+    public void sendEvent(Long userId, String eventName, Object data) {
+        publish(userId, eventName, data);
     }
 
     /**
      * 모든 연결된 사용자에게 알람 발송 (관리자용)
      */
     public void broadcastNotification(Object data) {
-        userConnections.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(data));
-                log.info("SSE 브로드캐스트 알람 발송 성공 - 사용자 ID: {}", userId);
-            } catch (IOException e) {
-                log.error("SSE 브로드캐스트 알람 발송 실패 - 사용자 ID: {}", userId, e);
-                userConnections.remove(userId);
+        publish(null, NOTIFICATION_EVENT, data);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 발행합니다. (롤백된 알람이 전송되지 않도록)
+     */
+    private void publish(Long userId, String eventName, Object data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 알람 직렬화 실패 - 사용자 ID: {}", userId, e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(userId, eventName, payload);
+                }
+            });
+            return;
+        }
+        publishNow(userId, eventName, payload);
+    }
+
+    // 이벤트 ID 는 실제 발행 순서대로 증가하도록 발행 직전에 발급
+    private void publishNow(Long userId, String eventName, String payload) {
+        notificationBroker.publish(new SseMessage(notificationBroker.nextEventId(), userId, eventName, payload));
+    }
+
+    /**
+     * 브로커로 받은 메시지를 이 노드에 연결된 연결의 발송 큐에 넣음 (실제 전송은 디스패처가 처리)
+     */
+    private void deliver(SseMessage message) {
+        if (message.isBroadcast()) {
+            sseReplayBuffer.append(message);
+            userConnections.values().forEach(connections -> connections.forEach(connection -> enqueue(connection, message)));
+            return;
+        }
+
+        // 다른 노드에 연결된 사용자라도 이 노드로 재연결할 수 있으므로 버퍼에는 항상 기록
+        userConnections.compute(message.getUserId(), (id, connections) -> {
+            sseReplayBuffer.append(message);
+            if (connections != null) {
+                connections.forEach(connection -> enqueue(connection, message));
             }
+            return connections;
+        });
+    }
+
+    private void enqueue(SseConnection connection, SseMessage message) {
+        sseDispatcher.send(connection, () -> SseEmitter.event()
+                .id(String.valueOf(message.getId()))
+                .name(message.getEventName())
+                .data(message.getPayload(), MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 주석 이벤트를 보냄 (기본 20초)
+     */
+    @Scheduled(fixedRateString = "${custom.sse.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        userConnections.values().forEach(connections -> connections.forEach(connection ->
+                sseDispatcher.send(connection, () -> SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private void detach(Long userId, SseEmitter emitter) {
+        userConnections.computeIfPresent(userId, (id, connections) -> {
+            connections.removeIf(connection -> connection.getEmitter() == emitter);
+            return connections.isEmpty() ? null : connections;
         });
     }
 
     /**
-     * 연결된 사용자 수 조회
+     * 이 노드에 연결된 SSE 연결 수 조회
      */
     public int getConnectionCount() {
+        return userConnections.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 이 노드에 연결된 사용자 수 조회
+     */
+    public int getConnectedUserCount() {
         return userConnections.size();
     }
 
     /**
-     * 특정 사용자 연결 제거
+     * 특정 사용자 연결 제거 (이 노드의 모든 연결)
      */
     public void removeConnection(Long userId) {
-        SseEmitter emitter = userConnections.remove(userId);
-        if (emitter != null) {
-            emitter.complete();
-            log.info("SSE 연결 제거 - 사용자 ID: {}", userId);
+        List<SseConnection> connections = userConnections.remove(userId);
+        if (connections != null) {
+            connections.forEach(connection -> {
+                sseDispatcher.close(connection);
+                connection.getEmitter().complete();
+            });
+            log.info("SSE 연결 제거 - 사용자 ID: {}, 연결 수: {}", userId, connections.size());
         }
     }
 
@@ -104,18 +221,15 @@ public class SseService {
      * 모든 연결 정리
      */
     public void closeAllConnections() {
-        userConnections.forEach((userId, emitter) -> {
+        userConnections.forEach((userId, connections) -> connections.forEach(connection -> {
             try {
-                emitter.complete();
+                sseDispatcher.close(connection);
+                connection.getEmitter().complete();
             } catch (Exception e) {
                 log.error("SSE 연결 정리 실패 - 사용자 ID: {}", userId, e);
             }
-        });
+        }));
         userConnections.clear();
         log.info("모든 SSE 연결 정리 완료");
     }
 }
-
-
-
-
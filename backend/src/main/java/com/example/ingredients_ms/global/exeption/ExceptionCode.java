@@ -27,6 +27,8 @@ public enum ExceptionCode {
     UNKNOW_THEME(404,"알 수 없는 시간단위 입니다."),
 
     RECIPE_NOT_FOUND(404,"레시피를 찾을 수 없습니다."),
+    INVALID_SORT_TYPE(400, "지원하지 않는 정렬 기준입니다."),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다."),
     
     // 이미지 관련 예외
     IMAGE_UPLOAD_FAILED(500, "이미지 업로드에 실패했습니다."),
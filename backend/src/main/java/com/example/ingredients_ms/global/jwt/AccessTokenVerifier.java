@@ -0,0 +1,90 @@
+package com.example.ingredients_ms.global.jwt;
+
+import com.example.ingredients_ms.global.jwt.VerifiedTokenCache.VerifiedToken;
+import com.example.ingredients_ms.global.jwt.store.AccessTokenRevocationStore;
+import com.example.ingredients_ms.global.security.SecurityUser;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 액세스 토큰 검증 (인가 필터용)
+ * 토큰을 한 번만 파싱해 서명/만료 검증과 SecurityUser 변환을 함께 처리하고,
+ * 검증 결과는 토큰 만료 시각까지 VerifiedTokenCache 에 두어 같은 토큰의 반복 요청은 해시 조회로 처리합니다.
+ * 로그아웃/상태 변경으로 무효화한 토큰은 AccessTokenRevocationStore 로 거르며,
+ * 캐시에 없는 토큰은 저장소 기준으로, 캐시에 있는 토큰은 노드 메모리의 폐기 기록으로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenVerifier {
+
+    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationStore accessTokenRevocationStore;
+
+    /**
+     * @return 유효하지 않거나 무효화된 토큰이면 null
+     */
+    public SecurityUser verify(String token) {
+        String key = VerifiedTokenCache.keyOf(token);
+        VerifiedToken verified = verifiedTokenCache.get(key);
+        if (verified != null) {
+            // 캐시에 넣은 뒤의 폐기는 노드 메모리의 기록만으로 확인 (요청마다 Redis 를 다녀오지 않음)
+            return accessTokenRevocationStore.isRevokedLocally(verified.user().getId(), key, verified.issuedAtMillis())
+                    ? null : verified.user();
+        }
+
+        Claims claims = jwtProvider.parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        SecurityUser securityUser = toSecurityUser(JwtProvider.userClaimsOf(claims));
+        if (securityUser == null) {
+            return null;
+        }
+        verified = new VerifiedToken(securityUser, claims.getIssuedAt() == null ? 0 : claims.getIssuedAt().getTime());
+
+        // 폐기된 토큰은 캐시에 넣지 않으므로 다음 요청도 저장소 기준으로 다시 확인됨
+        if (accessTokenRevocationStore.isRevoked(securityUser.getId(), key, verified.issuedAtMillis())) {
+            return null;
+        }
+        verifiedTokenCache.put(key, verified, claims.getExpiration());
+        return securityUser;
+    }
+
+    /**
+     * 로그아웃한 토큰을 만료 전까지 거부
+     */
+    public void revoke(String token) {
+        if (token != null && !token.isBlank() && jwtProvider.parseClaims(token) != null) {
+            accessTokenRevocationStore.revokeToken(VerifiedTokenCache.keyOf(token), jwtProvider.accessTokenTtl());
+        }
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 모든 액세스 토큰을 거부 (상태/정보 변경, 탈퇴)
+     * iat 는 초 단위이므로 지금 이 초 안에 발급된 토큰은 유지합니다. (곧바로 갱신한 새 토큰이 거부되지 않도록)
+     */
+    public void revokeUser(Long userId) {
+        long notBefore = System.currentTimeMillis() / 1000 * 1000;
+        accessTokenRevocationStore.revokeUser(userId, notBefore, jwtProvider.accessTokenTtl());
+    }
+
+    private SecurityUser toSecurityUser(Map<String, Object> userClaims) {
+        if (userClaims == null || userClaims.get("id") == null || userClaims.get("role") == null) {
+            return null;
+        }
+
+        long id = Long.parseLong(userClaims.get("id").toString());
+        String username = String.valueOf(userClaims.get("username"));
+        String email = String.valueOf(userClaims.get("email"));
+        String role = userClaims.get("role").toString(); // "ADMIN"
+
+        return new SecurityUser(id, email, username, "",
+                List.of(new SimpleGrantedAuthority("ROLE_" + role))); // Spring Security 표준 prefix
+    }
+}
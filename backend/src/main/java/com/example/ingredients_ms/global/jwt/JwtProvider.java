@@ -2,16 +2,21 @@ package com.example.ingredients_ms.global.jwt;
 
 import com.example.ingredients_ms.domain.user.entity.User;
 import com.example.ingredients_ms.global.util.Ut;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Component
@@ -24,6 +29,16 @@ public class JwtProvider {
 
     private SecretKey cachedSecretKey;
 
+    // 설정이 끝난 파서는 스레드 안전하므로 요청마다 새로 만들지 않고 재사용
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void initParser() {
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(getSecretKey())
+                .build();
+    }
+
     public SecretKey getSecretKey() {
         if(cachedSecretKey == null) {
             cachedSecretKey = _getSecretKey();
@@ -41,44 +56,60 @@ public class JwtProvider {
         return genToken(user, accessTokenExpiration); //10분 동안 유효한 토큰 생성
     }
 
-    public String genRefreshToken(User user) {
-        return genToken(user, 60 * 60 * 24 * 7); // 일주일 동안 유효한 refresh 토큰 생성
+    public Duration accessTokenTtl() {
+        return Duration.ofSeconds(accessTokenExpiration);
     }
 
     public String genToken(User user, int seconds) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("id", user.getId());
-        claims.put("username", user.getUserName());
-        claims.put("email", user.getEmail());
-        claims.put("role", user.getRole());
         long now = new Date().getTime();
-        Date accessTokenExpiresln= new Date(now + seconds * 1000);
+        Date accessTokenExpiresln= new Date(now + seconds * 1000L);
+        // 클레임을 JSON 문자열로 한 번 더 감싸지 않고 그대로 담음 (검증 시 추가 역직렬화 없음)
         return Jwts.builder()
-                .claim("body", Ut.json.toStr(claims)) // 맵으로 만든애를 json으로 만들어서 body에 담음
+                .claim("id", user.getId())
+                .claim("username", user.getUserName())
+                .claim("email", user.getEmail())
+                .claim("role", user.getRole() == null ? null : user.getRole().name())
+                .setIssuedAt(new Date(now))
                 .setExpiration(accessTokenExpiresln)
                 .signWith(getSecretKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * 서명과 만료를 검증하고 클레임을 반환 (한 번만 파싱)
+     *
+     * @return 검증에 실패하면 null
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 사용자 정보 클레임 (id, username, email, role)
+     * 이전 형식(body 클레임에 JSON 문자열로 담긴 토큰)도 읽을 수 있습니다.
+     */
+    public static Map<String, Object> userClaimsOf(Claims claims) {
+        String legacyBody = claims.get("body", String.class);
+        if (legacyBody != null) {
+            return Ut.toMap(legacyBody);
+        }
+        Map<String, Object> userClaims = new LinkedHashMap<>();
+        userClaims.put("id", claims.get("id"));
+        userClaims.put("username", claims.get("username"));
+        userClaims.put("email", claims.get("email"));
+        userClaims.put("role", claims.get("role"));
+        return userClaims;
+    }
+
     public Map<String, Object> getClaims(String token) {
-        String body = Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("body", String.class);
-        return Ut.toMap(body);
+        return userClaimsOf(jwtParser.parseClaimsJws(token).getBody());
     }
 
     public boolean verify(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSecretKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        }catch (Exception e){
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 }
@@ -0,0 +1,98 @@
+package com.example.ingredients_ms.global.jwt;
+
+import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import com.example.ingredients_ms.global.jwt.store.RefreshTokenRotation;
+import com.example.ingredients_ms.global.jwt.store.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/갱신/폐기
+ * 리프레시 토큰은 임의 문자열이며 저장소에는 해시만 남깁니다. 갱신할 때마다 새 토큰으로 교체(rotation)됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${custom.jwt.refresh-token.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    // 여러 탭에서 동시에 갱신할 때 직전 토큰을 재사용으로 보지 않는 시간
+    @Value("${custom.jwt.refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
+    /**
+     * 로그인 시 새 토큰 계열 발급 (기기마다 따로 유지)
+     */
+    public String issue(Long userId) {
+        String refreshToken = generate();
+        refreshTokenStore.create(TokenHashes.sha256(refreshToken), userId, UUID.randomUUID().toString(), ttl());
+        return refreshToken;
+    }
+
+    public String generate() {
+        byte[] bytes = new byte[32];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 리프레시 토큰을 newRefreshToken 으로 교체
+     * 방금 교체된 토큰이 동시 요청으로 다시 들어오면(GRACE) 교체하지 않고 소유자만 돌려주므로,
+     * 호출하는 쪽은 isRotated() 가 false 면 새 토큰을 내려보내지 않습니다.
+     *
+     * @throws BusinessLogicException 없거나 만료된 토큰, 유예 시간이 지난 재사용 (INVALID_TOKEN)
+     */
+    public RefreshTokenRotation rotate(String refreshToken, String newRefreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+        }
+
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(
+                TokenHashes.sha256(refreshToken), TokenHashes.sha256(newRefreshToken),
+                ttl(), Duration.ofSeconds(reuseGraceSeconds));
+
+        switch (rotation.getResult()) {
+            case ROTATED, GRACE -> {
+                return rotation;
+            }
+            case REUSED -> log.warn("교체된 리프레시 토큰 재사용 감지 - 사용자 ID: {}, 해당 기기의 토큰을 폐기합니다.", rotation.getUserId());
+            default -> {
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_TOKEN);
+    }
+
+    /**
+     * 로그아웃한 기기의 토큰 폐기
+     */
+    public void revoke(String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.revoke(TokenHashes.sha256(refreshToken));
+        }
+    }
+
+    /**
+     * 사용자의 모든 기기 토큰 폐기
+     */
+    public void revokeAll(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    private Duration ttl() {
+        return Duration.ofSeconds(ttlSeconds);
+    }
+}
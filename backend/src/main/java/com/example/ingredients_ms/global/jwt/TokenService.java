@@ -1,7 +1,7 @@
 package com.example.ingredients_ms.global.jwt;
 
 import com.example.ingredients_ms.domain.user.entity.User;
-import com.example.ingredients_ms.domain.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,18 +16,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TokenService {
 
-    private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final RefreshTokenService refreshTokenService;
     private final HttpServletResponse httpServletResponse;
     private final HttpServletRequest httpServletRequest;
 
 
     public String makeAuthCookies(User user, HttpServletResponse response) {
         String accessToken = jwtProvider.genAccessToken(user);
-        String refreshToken = jwtProvider.genRefreshToken(user);
-
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
+        // users 행을 갱신하지 않고 리프레시 토큰 저장소에 기기별로 등록
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         setCookie(response, "accessToken", accessToken);
         setCookie(response, "refreshToken", refreshToken); // refreshToken도 함께
@@ -52,11 +50,12 @@ public class TokenService {
             throw new IllegalArgumentException("Token is missing");
         }
 
-        if (!jwtProvider.verify(token)) {
+        Claims parsed = jwtProvider.parseClaims(token);
+        if (parsed == null) {
             throw new IllegalArgumentException("Invalid or expired token");
         }
 
-        Map<String, Object> claims = jwtProvider.getClaims(token);
+        Map<String, Object> claims = JwtProvider.userClaimsOf(parsed);
 
         return Long.valueOf(String.valueOf(claims.get("id")));
     }
@@ -68,11 +67,12 @@ public class TokenService {
             throw new IllegalArgumentException("Token is missing");
         }
 
-        if (!jwtProvider.verify(token)) {
+        Claims parsed = jwtProvider.parseClaims(token);
+        if (parsed == null) {
             throw new IllegalArgumentException("Invalid or expired token");
         }
 
-        Map<String, Object> claims = jwtProvider.getClaims(token);
+        Map<String, Object> claims = JwtProvider.userClaimsOf(parsed);
 
         return String.valueOf(claims.get("role"));
     }
@@ -0,0 +1,145 @@
+package com.example.ingredients_ms.global.jwt;
+
+import com.example.ingredients_ms.global.security.SecurityUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증을 마친 액세스 토큰 캐시 (토큰 SHA-256 해시 → SecurityUser)
+ * 같은 토큰으로 반복되는 요청은 서명 검증과 클레임 파싱 없이 해시 조회로 끝납니다.
+ * 항목은 토큰의 exp 시각에 만료되고, 세그먼트별 LRU 로 전체 크기를 제한합니다.
+ * 캐시는 토큰 검증 결과만 담으므로 로그아웃/정지된 사용자의 토큰 차단은 AccessTokenVerifier 가 AccessTokenRevocationStore 로 따로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    private Segment[] segments;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter evictionCounter;
+
+    @PostConstruct
+    void initialize() {
+        int segmentCapacity = Math.max(1, maxSize / SEGMENT_COUNT);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+
+        hitCounter = Counter.builder("auth.token.cache.hits")
+                .description("검증 캐시에서 찾은 액세스 토큰 수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("auth.token.cache.misses")
+                .description("검증 캐시에 없어 파싱한 액세스 토큰 수")
+                .register(meterRegistry);
+        evictionCounter = Counter.builder("auth.token.cache.evictions")
+                .description("용량 초과로 밀려난 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.cache.size", this, VerifiedTokenCache::size)
+                .description("검증 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    public static String keyOf(String token) {
+        return TokenHashes.sha256(token);
+    }
+
+    /**
+     * @return 캐시에 없거나 토큰이 만료되었으면 null
+     */
+    public VerifiedToken get(String key) {
+        Entry entry = segmentOf(key).get(key);
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            segmentOf(key).remove(key);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.token;
+    }
+
+    public void put(String key, VerifiedToken token, Date expiresAt) {
+        if (expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        segmentOf(key).put(key, new Entry(token, expiresAt.getTime()));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(String key) {
+        return segments[Math.floorMod(key.hashCode(), SEGMENT_COUNT)];
+    }
+
+    /**
+     * 검증을 마친 토큰의 사용자와 발급 시각 (발급 시각은 폐기 여부 확인용, iat 가 없는 토큰은 0)
+     */
+    public record VerifiedToken(SecurityUser user, long issuedAtMillis) {
+    }
+
+    private record Entry(VerifiedToken token, long expiresAtMillis) {
+    }
+
+    // 접근 순서 LinkedHashMap 기반 LRU (세그먼트 단위 잠금)
+    private class Segment {
+
+        private final LinkedHashMap<String, Entry> entries;
+
+        Segment(int capacity) {
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    evictionCounter.increment();
+                    return true;
+                }
+            };
+        }
+
+        synchronized Entry get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, Entry entry) {
+            entries.put(key, entry);
+        }
+
+        synchronized void remove(String key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
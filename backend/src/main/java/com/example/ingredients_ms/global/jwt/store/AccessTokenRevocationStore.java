@@ -0,0 +1,35 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import java.time.Duration;
+
+/**
+ * 만료 전에 무효화한 액세스 토큰 기록
+ * 사용자 단위로는 "이 시각 이전에 발급된 토큰은 거부"(not-before) 를, 토큰 단위로는 토큰 해시를 남기며
+ * 두 기록 모두 액세스 토큰 유효 기간이 지나면 의미가 없으므로 그만큼만 보관합니다.
+ * custom.jwt.revocation.store 값으로 구현을 고릅니다. (redis: 여러 노드가 공유, local: 단일 노드/테스트용 인메모리)
+ */
+public interface AccessTokenRevocationStore {
+
+    /**
+     * notBeforeMillis 이전에 발급된 사용자의 모든 토큰 거부 (상태/정보 변경, 탈퇴)
+     */
+    void revokeUser(Long userId, long notBeforeMillis, Duration ttl);
+
+    /**
+     * 토큰 하나 거부 (로그아웃)
+     */
+    void revokeToken(String tokenHash, Duration ttl);
+
+    /**
+     * 저장소 기준으로 확인합니다. (검증 캐시에 없는 토큰)
+     */
+    boolean isRevoked(Long userId, String tokenHash, long issuedAtMillis);
+
+    /**
+     * 이 노드 메모리에 있는 기록만으로 확인합니다. (검증 캐시에 있는 토큰, 요청마다 원격 저장소를 다녀오지 않도록)
+     * 공유 저장소 구현은 다른 노드의 폐기 기록도 메모리로 전달받아 두어야 합니다.
+     */
+    default boolean isRevokedLocally(Long userId, String tokenHash, long issuedAtMillis) {
+        return isRevoked(userId, tokenHash, issuedAtMillis);
+    }
+}
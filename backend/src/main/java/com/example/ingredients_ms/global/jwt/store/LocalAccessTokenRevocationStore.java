@@ -0,0 +1,40 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 단일 노드/테스트용 인메모리 저장소
+ */
+@Component
+@ConditionalOnProperty(name = "custom.jwt.revocation.store", havingValue = "local", matchIfMissing = true)
+public class LocalAccessTokenRevocationStore implements AccessTokenRevocationStore {
+
+    private final RevocationRecords records = new RevocationRecords();
+
+    @Override
+    public void revokeUser(Long userId, long notBeforeMillis, Duration ttl) {
+        records.revokeUser(userId, notBeforeMillis, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    @Override
+    public void revokeToken(String tokenHash, Duration ttl) {
+        records.revokeToken(tokenHash, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, String tokenHash, long issuedAtMillis) {
+        return records.isRevoked(userId, tokenHash, issuedAtMillis);
+    }
+
+    /**
+     * 보관 기간이 지난 기록 정리 (매 10분)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictExpired() {
+        records.evictExpired();
+    }
+}
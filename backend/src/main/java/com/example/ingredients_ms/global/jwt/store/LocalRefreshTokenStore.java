@@ -0,0 +1,124 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 단일 노드/테스트용 인메모리 저장소
+ */
+@Component
+@ConditionalOnProperty(name = "custom.jwt.refresh-token.store", havingValue = "local", matchIfMissing = true)
+public class LocalRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, TokenEntry> tokens = new HashMap<>();
+    private final Map<String, FamilyEntry> families = new HashMap<>();
+    private final Map<Long, Set<String>> familiesByUser = new HashMap<>();
+
+    @Override
+    public synchronized void create(String tokenHash, Long userId, String familyId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        tokens.put(tokenHash, new TokenEntry(userId, familyId, expiresAt));
+        families.put(familyId, new FamilyEntry(userId, tokenHash, expiresAt));
+        familiesByUser.computeIfAbsent(userId, id -> new HashSet<>()).add(familyId);
+    }
+
+    @Override
+    public synchronized RefreshTokenRotation rotate(String tokenHash, String newTokenHash, Duration ttl, Duration reuseGrace) {
+        long now = System.currentTimeMillis();
+        TokenEntry token = tokens.get(tokenHash);
+        if (token == null || token.expiresAt <= now) {
+            return RefreshTokenRotation.of(RefreshTokenRotation.Result.NOT_FOUND);
+        }
+
+        FamilyEntry family = families.get(token.familyId);
+        if (family == null || family.expiresAt <= now) {
+            return new RefreshTokenRotation(RefreshTokenRotation.Result.NOT_FOUND, token.userId);
+        }
+
+        if (!family.currentTokenHash.equals(tokenHash)) {
+            if (token.rotatedAt != null && now - token.rotatedAt <= reuseGrace.toMillis()) {
+                return new RefreshTokenRotation(RefreshTokenRotation.Result.GRACE, token.userId);
+            }
+            removeFamily(token.userId, token.familyId);
+            return new RefreshTokenRotation(RefreshTokenRotation.Result.REUSED, token.userId);
+        }
+
+        long expiresAt = now + ttl.toMillis();
+        token.rotatedAt = now;
+        tokens.put(newTokenHash, new TokenEntry(token.userId, token.familyId, expiresAt));
+        families.put(token.familyId, new FamilyEntry(token.userId, newTokenHash, expiresAt));
+        return new RefreshTokenRotation(RefreshTokenRotation.Result.ROTATED, token.userId);
+    }
+
+    @Override
+    public synchronized void revoke(String tokenHash) {
+        TokenEntry token = tokens.get(tokenHash);
+        if (token != null) {
+            removeFamily(token.userId, token.familyId);
+        }
+    }
+
+    @Override
+    public synchronized void revokeAll(Long userId) {
+        Set<String> familyIds = familiesByUser.remove(userId);
+        if (familyIds != null) {
+            familyIds.forEach(families::remove);
+        }
+    }
+
+    /**
+     * 만료된 토큰/계열 정리 (매 10분)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public synchronized void evictExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(token -> token.expiresAt <= now);
+        families.entrySet().removeIf(entry -> {
+            if (entry.getValue().expiresAt > now) {
+                return false;
+            }
+            Set<String> familyIds = familiesByUser.get(entry.getValue().userId);
+            if (familyIds != null) {
+                familyIds.remove(entry.getKey());
+                if (familyIds.isEmpty()) {
+                    familiesByUser.remove(entry.getValue().userId);
+                }
+            }
+            return true;
+        });
+    }
+
+    private void removeFamily(Long userId, String familyId) {
+        families.remove(familyId);
+        Set<String> familyIds = familiesByUser.get(userId);
+        if (familyIds != null) {
+            familyIds.remove(familyId);
+            if (familyIds.isEmpty()) {
+                familiesByUser.remove(userId);
+            }
+        }
+    }
+
+    private static class TokenEntry {
+        private final Long userId;
+        private final String familyId;
+        private final long expiresAt;
+        private Long rotatedAt;
+
+        TokenEntry(Long userId, String familyId, long expiresAt) {
+            this.userId = userId;
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private record FamilyEntry(Long userId, String currentTokenHash, long expiresAt) {
+    }
+}
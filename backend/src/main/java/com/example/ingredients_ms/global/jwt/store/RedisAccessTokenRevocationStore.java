@@ -0,0 +1,122 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 저장소 (여러 노드가 같은 폐기 기록을 공유)
+ * access:revoked:user:{userId} = not-before 시각, access:revoked:token:{tokenHash} = 1 (둘 다 액세스 토큰 유효 기간만큼 보관)
+ * 폐기할 때 채널로도 발행해 모든 노드가 메모리에 같은 기록을 두므로, 검증 캐시에 있는 토큰은 Redis 를 거치지 않고 확인합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.jwt.revocation.store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisAccessTokenRevocationStore implements AccessTokenRevocationStore {
+
+    private static final String USER_KEY_PREFIX = "access:revoked:user:";
+    private static final String TOKEN_KEY_PREFIX = "access:revoked:token:";
+
+    // 채널 메시지: user:{userId}:{notBefore}:{ttlMillis} 또는 token:{tokenHash}:{ttlMillis}
+    private static final String USER_MESSAGE_PREFIX = "user:";
+    private static final String TOKEN_MESSAGE_PREFIX = "token:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Value("${custom.jwt.revocation.channel:access:revoked}")
+    private String channel;
+
+    private final RevocationRecords records = new RevocationRecords();
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    void start() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                apply(body);
+            } catch (RuntimeException e) {
+                log.error("액세스 토큰 폐기 메시지 처리 실패 - 메시지: {}", body, e);
+            }
+        }, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    @Override
+    public void revokeUser(Long userId, long notBeforeMillis, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(USER_KEY_PREFIX + userId, String.valueOf(notBeforeMillis), ttl);
+        records.revokeUser(userId, notBeforeMillis, System.currentTimeMillis() + ttl.toMillis());
+        stringRedisTemplate.convertAndSend(channel,
+                USER_MESSAGE_PREFIX + userId + ":" + notBeforeMillis + ":" + ttl.toMillis());
+    }
+
+    @Override
+    public void revokeToken(String tokenHash, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + tokenHash, "1", ttl);
+        records.revokeToken(tokenHash, System.currentTimeMillis() + ttl.toMillis());
+        stringRedisTemplate.convertAndSend(channel, TOKEN_MESSAGE_PREFIX + tokenHash + ":" + ttl.toMillis());
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, String tokenHash, long issuedAtMillis) {
+        // 한 번의 왕복으로 두 기록을 함께 조회
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(List.of(USER_KEY_PREFIX + userId, TOKEN_KEY_PREFIX + tokenHash));
+        if (values == null) {
+            return false;
+        }
+        String notBefore = values.get(0);
+        return (notBefore != null && issuedAtMillis < Long.parseLong(notBefore)) || values.get(1) != null;
+    }
+
+    @Override
+    public boolean isRevokedLocally(Long userId, String tokenHash, long issuedAtMillis) {
+        return records.isRevoked(userId, tokenHash, issuedAtMillis);
+    }
+
+    /**
+     * 보관 기간이 지난 메모리 기록 정리 (매 10분)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void evictExpired() {
+        records.evictExpired();
+    }
+
+    private void apply(String message) {
+        String[] parts = message.split(":");
+        long now = System.currentTimeMillis();
+        if (message.startsWith(USER_MESSAGE_PREFIX) && parts.length == 4) {
+            records.revokeUser(Long.parseLong(parts[1]), Long.parseLong(parts[2]), now + Long.parseLong(parts[3]));
+        } else if (message.startsWith(TOKEN_MESSAGE_PREFIX) && parts.length == 3) {
+            records.revokeToken(parts[1], now + Long.parseLong(parts[2]));
+        } else {
+            log.warn("알 수 없는 액세스 토큰 폐기 메시지 - {}", message);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 저장소 (여러 노드가 같은 토큰 상태를 공유)
+ * refresh:token:{해시} - 토큰이 속한 사용자/계열 (교체 후에도 재사용 감지를 위해 만료까지 유지)
+ * refresh:family:{계열} - 계열의 현재 토큰 해시 (없으면 폐기된 계열)
+ * refresh:user:{사용자} - 사용자의 계열 목록 (기기별 로그인)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.jwt.refresh-token.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh:token:";
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final String USER_KEY_PREFIX = "refresh:user:";
+
+    private static final DefaultRedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'familyId', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 계열의 현재 토큰인지 확인하고 교체하는 과정을 원자적으로 처리
+    private static final DefaultRedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[3])
+            if not current then
+                return 'NOT_FOUND'
+            end
+            if current ~= ARGV[1] then
+                local rotatedAt = redis.call('HGET', KEYS[1], 'rotatedAt')
+                if rotatedAt and tonumber(ARGV[3]) - tonumber(rotatedAt) <= tonumber(ARGV[5]) then
+                    return 'GRACE'
+                end
+                redis.call('DEL', KEYS[3])
+                redis.call('SREM', KEYS[4], ARGV[6])
+                return 'REUSED'
+            end
+            redis.call('HSET', KEYS[1], 'rotatedAt', ARGV[3])
+            redis.call('HSET', KEYS[2], 'userId', ARGV[7], 'familyId', ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[4])
+            redis.call('PEXPIRE', KEYS[4], ARGV[4])
+            return 'ROTATED'
+            """, String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void create(String tokenHash, Long userId, String familyId, Duration ttl) {
+        stringRedisTemplate.execute(CREATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + tokenHash, FAMILY_KEY_PREFIX + familyId, USER_KEY_PREFIX + userId),
+                String.valueOf(userId), familyId, tokenHash, String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String tokenHash, String newTokenHash, Duration ttl, Duration reuseGrace) {
+        TokenOwner owner = ownerOf(tokenHash);
+        if (owner == null) {
+            return RefreshTokenRotation.of(RefreshTokenRotation.Result.NOT_FOUND);
+        }
+
+        String result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_KEY_PREFIX + tokenHash, TOKEN_KEY_PREFIX + newTokenHash,
+                        FAMILY_KEY_PREFIX + owner.familyId(), USER_KEY_PREFIX + owner.userId()),
+                tokenHash, newTokenHash, String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttl.toMillis()), String.valueOf(reuseGrace.toMillis()),
+                owner.familyId(), String.valueOf(owner.userId()));
+
+        return new RefreshTokenRotation(
+                result == null ? RefreshTokenRotation.Result.NOT_FOUND : RefreshTokenRotation.Result.valueOf(result),
+                owner.userId());
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        TokenOwner owner = ownerOf(tokenHash);
+        if (owner == null) {
+            return;
+        }
+        stringRedisTemplate.delete(FAMILY_KEY_PREFIX + owner.familyId());
+        stringRedisTemplate.opsForSet().remove(USER_KEY_PREFIX + owner.userId(), owner.familyId());
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        Set<String> familyIds = stringRedisTemplate.opsForSet().members(USER_KEY_PREFIX + userId);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            stringRedisTemplate.delete(familyIds.stream().map(familyId -> FAMILY_KEY_PREFIX + familyId).toList());
+        }
+        stringRedisTemplate.delete(USER_KEY_PREFIX + userId);
+    }
+
+    private TokenOwner ownerOf(String tokenHash) {
+        List<Object> fields = stringRedisTemplate.opsForHash()
+                .multiGet(TOKEN_KEY_PREFIX + tokenHash, List.of("userId", "familyId"));
+        if (fields == null || fields.get(0) == null || fields.get(1) == null) {
+            return null;
+        }
+        return new TokenOwner(Long.parseLong((String) fields.get(0)), (String) fields.get(1));
+    }
+
+    private record TokenOwner(Long userId, String familyId) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RefreshTokenRotation {
+
+    public enum Result {
+        ROTATED,   // 새 토큰으로 교체됨
+        GRACE,     // 방금 교체된 토큰 (동시 요청) - 교체 없이 액세스 토큰만 발급
+        REUSED,    // 교체된 토큰 재사용 - 계열 폐기됨
+        NOT_FOUND  // 없거나 만료/폐기된 토큰
+    }
+
+    private final Result result;
+    private final Long userId;
+
+    public static RefreshTokenRotation of(Result result) {
+        return new RefreshTokenRotation(result, null);
+    }
+
+    public boolean isRotated() {
+        return result == Result.ROTATED;
+    }
+}
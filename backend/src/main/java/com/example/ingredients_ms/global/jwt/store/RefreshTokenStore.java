@@ -0,0 +1,33 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 저장소 (토큰 원문 대신 SHA-256 해시로 저장)
+ * 로그인 한 번(기기 하나)이 하나의 토큰 계열(family)이 되고, 갱신할 때마다 계열의 현재 토큰이 새 토큰으로 바뀝니다.
+ * 이미 교체된 토큰이 다시 쓰이면 탈취로 보고 계열 전체를 폐기합니다.
+ * custom.jwt.refresh-token.store 값으로 구현을 고릅니다. (redis: 여러 노드가 공유, local: 단일 노드/테스트용 인메모리)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 새 토큰 계열 등록 (로그인)
+     */
+    void create(String tokenHash, Long userId, String familyId, Duration ttl);
+
+    /**
+     * 계열의 현재 토큰이면 새 토큰으로 교체합니다.
+     * 교체된 지 reuseGrace 가 지난 토큰이 다시 쓰이면 계열을 폐기하고 REUSED 를 반환합니다.
+     */
+    RefreshTokenRotation rotate(String tokenHash, String newTokenHash, Duration ttl, Duration reuseGrace);
+
+    /**
+     * 토큰이 속한 계열 폐기 (로그아웃)
+     */
+    void revoke(String tokenHash);
+
+    /**
+     * 사용자의 모든 계열 폐기 (상태 변경, 탈퇴)
+     */
+    void revokeAll(Long userId);
+}
@@ -0,0 +1,42 @@
+package com.example.ingredients_ms.global.jwt.store;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 메모리에 두는 액세스 토큰 폐기 기록 (사용자별 not-before, 토큰 해시)
+ * 각 기록은 expiresAt(액세스 토큰 유효 기간이 지나는 시각)까지만 의미가 있으므로 주기적으로 evictExpired 로 비웁니다.
+ */
+class RevocationRecords {
+
+    private final Map<Long, NotBefore> notBeforeByUser = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>(); // 토큰 해시 → 기록 만료 시각
+
+    void revokeUser(Long userId, long notBeforeMillis, long expiresAt) {
+        notBeforeByUser.merge(userId, new NotBefore(notBeforeMillis, expiresAt), (previous, current) ->
+                previous.notBeforeMillis() > current.notBeforeMillis() ? previous : current);
+    }
+
+    void revokeToken(String tokenHash, long expiresAt) {
+        revokedTokens.merge(tokenHash, expiresAt, Math::max);
+    }
+
+    boolean isRevoked(Long userId, String tokenHash, long issuedAtMillis) {
+        long now = System.currentTimeMillis();
+        NotBefore notBefore = notBeforeByUser.get(userId);
+        if (notBefore != null && notBefore.expiresAt() > now && issuedAtMillis < notBefore.notBeforeMillis()) {
+            return true;
+        }
+        Long expiresAt = revokedTokens.get(tokenHash);
+        return expiresAt != null && expiresAt > now;
+    }
+
+    void evictExpired() {
+        long now = System.currentTimeMillis();
+        notBeforeByUser.values().removeIf(entry -> entry.expiresAt() <= now);
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private record NotBefore(long notBeforeMillis, long expiresAt) {
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.ingredients_ms.global.security;
 
+import com.example.ingredients_ms.domain.user.dto.response.RefreshTokenResponseDto;
 import com.example.ingredients_ms.domain.user.service.UserService;
+import com.example.ingredients_ms.global.jwt.AccessTokenVerifier;
 import com.example.ingredients_ms.global.rsdata.RsData;
+import com.example.ingredients_ms.global.security.route.RouteRule;
+import com.example.ingredients_ms.global.security.route.RouteTable;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,43 +17,45 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import java.util.Arrays;
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final HttpServletRequest req;
     private final HttpServletResponse resp;
     private final UserService userService;
+    private final AccessTokenVerifier accessTokenVerifier;
+    private final RouteTable routeTable;
+
+    /**
+     * 로그인/회원가입처럼 토큰이 필요 없는 경로는 필터를 거치지 않음 (RouteTable 조회 한 번으로 판단)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        RouteRule rule = routeTable.match(request);
+        return rule != null && rule.isSkipAuthentication();
+    }
+
     @Override
     @SneakyThrows
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
-        if (List.of(
-                "/api/v1/users/login",
-                "/api/v1/users/logout",
-                "/api/v1/users/signup",
-                "/api/v1/email/send",
-                "/api/v1/email/verify",
-                "/api/v1/users/findPW",
-                "/api/v1/users/findID"
-        ).contains(request.getRequestURI()) ) {
-            filterChain.doFilter(request, response);
-            return;
-        }
         String accessToken = _getCookie("accessToken");
         // accessToken 검증 or refreshToken 발급
         if (!accessToken.isBlank()) {
-            // 토큰 유효기간 검증
-            if (!userService.validationToken(accessToken)) {
+            // 토큰 검증과 securityUser 변환을 한 번의 파싱으로 처리
+            SecurityUser securityUser = accessTokenVerifier.verify(accessToken);
+            if (securityUser == null) {
                 String refreshToken = _getCookie("refreshToken");
-                RsData<String> rs = userService.refreshAccessToken(refreshToken);
-                _addHeaderCookie("accessToken", rs.getData());
+                RsData<RefreshTokenResponseDto> rs = userService.refreshAccessToken(refreshToken);
+                _addHeaderCookie("accessToken", rs.getData().getAccessToken());
+                if (rs.getData().getRefreshToken() != null) {
+                    _addHeaderCookie("refreshToken", rs.getData().getRefreshToken());
+                }
+                securityUser = accessTokenVerifier.verify(rs.getData().getAccessToken());
             }
-            // securityUser 가져오기
-            SecurityUser securityUser = userService.getUserFromAccessToken(accessToken);
             // 인가 처리
-            SecurityContextHolder.getContext().setAuthentication(securityUser.getAuthentication());
+            if (securityUser != null) {
+                SecurityContextHolder.getContext().setAuthentication(securityUser.getAuthentication());
+            }
         }
         filterChain.doFilter(request, response);
     }
@@ -58,11 +64,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         if (cookies == null) return "";
 
-        return Arrays.stream(cookies)
-                .filter(cookie -> cookie.getName().equals(name))
-                .findFirst()
-                .map(Cookie::getValue)
-                .orElse("");
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(name)) {
+                return cookie.getValue();
+            }
+        }
+        return "";
     }
     private void _addHeaderCookie(String tokenName, String token) {
         ResponseCookie cookie = ResponseCookie.from(tokenName, token)
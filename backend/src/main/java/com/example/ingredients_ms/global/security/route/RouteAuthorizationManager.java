@@ -0,0 +1,47 @@
+package com.example.ingredients_ms.global.security.route;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * RouteTable 규칙으로 요청 권한을 판단
+ * 맞는 규칙이 없는 요청은 기존 authorizeHttpRequests 설정과 같이 거부합니다. (새 API 는 ApiRouteConfig 에 규칙을 추가해야 열림)
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RouteTable routeTable;
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        RouteRule rule = routeTable.match(context.getRequest());
+        if (rule == null) {
+            return new AuthorizationDecision(false);
+        }
+        if (rule.isPermitAll()) {
+            return new AuthorizationDecision(true);
+        }
+
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return new AuthorizationDecision(false);
+        }
+        for (GrantedAuthority authority : current.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX) && rule.getRoles().contains(name.substring(ROLE_PREFIX.length()))) {
+                return new AuthorizationDecision(true);
+            }
+        }
+        return new AuthorizationDecision(false);
+    }
+}
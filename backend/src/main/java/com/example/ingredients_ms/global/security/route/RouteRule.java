@@ -0,0 +1,36 @@
+package com.example.ingredients_ms.global.security.route;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+
+import java.util.Set;
+
+/**
+ * 경로 패턴 하나에 대한 접근 규칙
+ * 같은 요청에 여러 규칙이 맞으면 먼저 선언된 규칙(order 가 작은 것)을 따릅니다. (requestMatchers 와 같은 방식)
+ */
+@Getter
+public class RouteRule {
+
+    private final int order;
+    private final HttpMethod method; // null 이면 모든 메서드
+    private final String pattern;
+    private final Set<String> roles; // 비어 있으면 permitAll
+    private final boolean skipAuthentication; // true 면 인가 필터에서 토큰을 읽지 않음
+
+    RouteRule(int order, HttpMethod method, String pattern, Set<String> roles, boolean skipAuthentication) {
+        this.order = order;
+        this.method = method;
+        this.pattern = pattern;
+        this.roles = roles;
+        this.skipAuthentication = skipAuthentication;
+    }
+
+    public boolean isPermitAll() {
+        return roles.isEmpty();
+    }
+
+    boolean matchesMethod(String requestMethod) {
+        return method == null || method.name().equals(requestMethod);
+    }
+}
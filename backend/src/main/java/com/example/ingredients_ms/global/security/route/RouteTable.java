@@ -0,0 +1,210 @@
+package com.example.ingredients_ms.global.security.route;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.*;
+
+/**
+ * API 경로별 접근 규칙을 경로 세그먼트 트라이로 미리 컴파일한 표
+ * 요청마다 규칙 목록을 순서대로 비교하지 않고 트라이를 한 번 내려가며 맞는 규칙 중 가장 먼저 선언된 것을 찾습니다.
+ * 인가 필터(토큰 처리 여부)와 AuthorizationManager(권한 검사)가 같은 표를 쓰며, 결과는 요청 속성에 남겨 한 요청에서 한 번만 찾습니다.
+ *
+ * 패턴 문법: 리터럴 세그먼트, * 또는 {변수} (세그먼트 하나), ** (나머지 전체, 0개 포함)
+ */
+public class RouteTable {
+
+    private static final String MATCH_ATTRIBUTE = RouteTable.class.getName() + ".MATCH";
+
+    private final Node root;
+    private final List<RouteRule> rules;
+
+    private RouteTable(Node root, List<RouteRule> rules) {
+        this.root = root;
+        this.rules = List.copyOf(rules);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청에 적용할 규칙 (없으면 null)
+     */
+    public RouteRule match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = pathOf(request);
+
+        // forward/error 디스패치처럼 경로가 바뀐 경우에는 다시 찾음
+        if (request.getAttribute(MATCH_ATTRIBUTE) instanceof CachedMatch cached
+                && cached.method().equals(method) && cached.path().equals(path)) {
+            return cached.rule();
+        }
+
+        RouteRule rule = match(method, path);
+        request.setAttribute(MATCH_ATTRIBUTE, new CachedMatch(method, path, rule));
+        return rule;
+    }
+
+    /**
+     * 선언 순서대로의 규칙 (벤치마크에서 이전 requestMatchers 방식과 비교할 때 사용)
+     */
+    public List<RouteRule> rules() {
+        return rules;
+    }
+
+    public RouteRule match(String method, String path) {
+        String[] segments = split(path);
+        RouteRule[] best = new RouteRule[1];
+        collect(root, segments, 0, method, best);
+        return best[0];
+    }
+
+    private static void collect(Node node, String[] segments, int index, String method, RouteRule[] best) {
+        if (node.rest != null) {
+            consider(node.rest.rules, method, best);
+        }
+        if (index == segments.length) {
+            consider(node.rules, method, best);
+            return;
+        }
+
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            collect(literal, segments, index + 1, method, best);
+        }
+        if (node.wildcard != null && !segments[index].isEmpty()) {
+            collect(node.wildcard, segments, index + 1, method, best);
+        }
+    }
+
+    private static void consider(List<RouteRule> rules, String method, RouteRule[] best) {
+        for (RouteRule rule : rules) {
+            if (rule.matchesMethod(method) && (best[0] == null || rule.getOrder() < best[0].getOrder())) {
+                best[0] = rule;
+            }
+        }
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+    }
+
+    // 앞의 "/" 는 버리고 끝의 "/" 는 빈 세그먼트로 유지 ("/api/v1/category/" 와 "/api/v1/category" 를 구분)
+    private static String[] split(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.split("/", -1);
+    }
+
+    private record CachedMatch(String method, String path, RouteRule rule) {
+    }
+
+    private static class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private Node rest;
+        private final List<RouteRule> rules = new ArrayList<>();
+    }
+
+    /**
+     * 선언 순서대로 규칙을 추가합니다.
+     * 사용 예: builder().get("/api/{version}/users/me").hasAnyRole("USER", "ADMIN")
+     */
+    public static class Builder {
+
+        private final Node root = new Node();
+        private final List<RouteRule> rules = new ArrayList<>();
+        private int order;
+
+        public RuleBuilder get(String pattern) {
+            return new RuleBuilder(this, HttpMethod.GET, pattern);
+        }
+
+        public RuleBuilder post(String pattern) {
+            return new RuleBuilder(this, HttpMethod.POST, pattern);
+        }
+
+        public RuleBuilder put(String pattern) {
+            return new RuleBuilder(this, HttpMethod.PUT, pattern);
+        }
+
+        public RuleBuilder patch(String pattern) {
+            return new RuleBuilder(this, HttpMethod.PATCH, pattern);
+        }
+
+        public RuleBuilder delete(String pattern) {
+            return new RuleBuilder(this, HttpMethod.DELETE, pattern);
+        }
+
+        public RuleBuilder any(String pattern) {
+            return new RuleBuilder(this, null, pattern);
+        }
+
+        public RouteTable build() {
+            return new RouteTable(root, rules);
+        }
+
+        private Builder add(HttpMethod method, String pattern, Set<String> roles, boolean skipAuthentication) {
+            Node node = root;
+            for (String segment : split(pattern)) {
+                if (segment.equals("**")) {
+                    if (node.rest == null) {
+                        node.rest = new Node();
+                    }
+                    node = node.rest;
+                    break;
+                }
+                if (segment.equals("*") || (segment.startsWith("{") && segment.endsWith("}"))) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            RouteRule rule = new RouteRule(order++, method, pattern, roles, skipAuthentication);
+            node.rules.add(rule);
+            rules.add(rule);
+            return this;
+        }
+    }
+
+    public static class RuleBuilder {
+
+        private final Builder builder;
+        private final HttpMethod method;
+        private final String pattern;
+        private boolean skipAuthentication;
+
+        private RuleBuilder(Builder builder, HttpMethod method, String pattern) {
+            this.builder = builder;
+            this.method = method;
+            this.pattern = pattern;
+        }
+
+        /**
+         * 인가 필터에서 토큰을 읽지 않는 경로 (로그인/회원가입처럼 토큰이 필요 없는 요청)
+         */
+        public RuleBuilder skipAuthentication() {
+            this.skipAuthentication = true;
+            return this;
+        }
+
+        public Builder permitAll() {
+            return builder.add(method, pattern, Set.of(), skipAuthentication);
+        }
+
+        public Builder hasRole(String role) {
+            return builder.add(method, pattern, Set.of(role), skipAuthentication);
+        }
+
+        public Builder hasAnyRole(String... roles) {
+            return builder.add(method, pattern, Set.of(roles), skipAuthentication);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.ingredients_ms.global.statistics;
+
+import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.exeption.ExceptionCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 차트 구간 단위
+ * 테마 기간이 길수록 구간을 넓혀 차트의 점 개수를 7~31개 정도로 유지합니다.
+ * (week, month: 일 / quarter: 주(월요일 시작) / year: 월)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChartResolution {
+
+    DAY("stat_date", DateTimeFormatter.ofPattern("MM/dd")),
+    WEEK("DATE_SUB(stat_date, INTERVAL WEEKDAY(stat_date) DAY)", DateTimeFormatter.ofPattern("MM/dd~")),
+    MONTH("DATE_SUB(stat_date, INTERVAL DAYOFMONTH(stat_date) - 1 DAY)", DateTimeFormatter.ofPattern("yyyy.MM"));
+
+    // stat_date 를 구간 시작 날짜로 바꾸는 SQL 식
+    private final String bucketExpression;
+    private final DateTimeFormatter labelFormat;
+
+    public static ChartResolution ofTheme(String theme) {
+        return switch (theme) {
+            case "week", "month" -> DAY;
+            case "quarter" -> WEEK;
+            case "year" -> MONTH;
+            default -> throw new BusinessLogicException(ExceptionCode.UNKNOW_THEME);
+        };
+    }
+
+    public LocalDate bucketOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * [from, to] 를 덮는 구간 시작 날짜 목록 (오름차순, 빈 구간 포함)
+     */
+    public List<LocalDate> buckets(LocalDate from, LocalDate to) {
+        List<LocalDate> buckets = new ArrayList<>();
+        for (LocalDate bucket = bucketOf(from); !bucket.isAfter(to); bucket = next(bucket)) {
+            buckets.add(bucket);
+        }
+        return buckets;
+    }
+
+    /**
+     * 구간의 마지막 날짜
+     */
+    public LocalDate bucketEnd(LocalDate bucket) {
+        return next(bucket).minusDays(1);
+    }
+
+    public String label(LocalDate bucket) {
+        return bucket.format(labelFormat);
+    }
+
+    private LocalDate next(LocalDate bucket) {
+        return switch (this) {
+            case DAY -> bucket.plusDays(1);
+            case WEEK -> bucket.plusWeeks(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+}
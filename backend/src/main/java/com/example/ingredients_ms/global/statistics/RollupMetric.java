@@ -0,0 +1,54 @@
+package com.example.ingredients_ms.global.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * stat_daily_metric 에 일별로 쌓는 지표
+ * 원본 테이블의 created_at 날짜별 건수이며, 조건이 있는 지표는 해당 조건을 만족하는 행만 셉니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupMetric {
+
+    USERS("users", "users", null),
+    RECIPES("recipes", "recipe", null),
+    INGREDIENTS("ingredients", "ingredients", null),
+    COMPLAINTS("complaints", "complaint", null),
+    COMPLETED_COMPLAINTS("completed_complaints", "complaint", "status = 'COMPLETED'"),
+    FEEDBACK("feedback", "complaint_feedback", null),
+    DIET_LOGS("diet_logs", "diet", null),
+    INVENTORY_ITEMS("inventory_items", "food_inventory", null),
+    LOGINS("logins", "user_activities", "activity_type = 'LOGIN'"),
+    RECIPE_VIEWS("recipe_views", "user_activities", "activity_type = 'RECIPE_VIEW'"),
+    RECIPE_CREATIONS("recipe_creations", "user_activities", "activity_type = 'RECIPE_CREATE'");
+
+    private final String key;
+    private final String sourceTable;
+    private final String condition;
+
+    public static List<RollupMetric> ofTable(String sourceTable) {
+        return Arrays.stream(values())
+                .filter(metric -> metric.sourceTable.equals(sourceTable))
+                .toList();
+    }
+
+    public static List<String> sourceTables() {
+        return Arrays.stream(values())
+                .map(RollupMetric::getSourceTable)
+                .distinct()
+                .toList();
+    }
+
+    public static RollupMetric ofKey(String key) {
+        for (RollupMetric metric : values()) {
+            if (metric.key.equals(key)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ingredients_ms.global.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 관리자 통계용 지표 조회
+ * 원본 테이블 대신 일별 집계(stat_daily_metric)를 더하므로 기간과 관계없이 작은 행만 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsCountRepository {
+
+    private static final String PERIOD_COUNTS_SQL = """
+            SELECT metric,
+                   SUM(metric_value) AS total,
+                   COALESCE(SUM(CASE WHEN stat_date BETWEEN ? AND ? THEN metric_value ELSE 0 END), 0) AS current_count,
+                   COALESCE(SUM(CASE WHEN stat_date BETWEEN ? AND ? THEN metric_value ELSE 0 END), 0) AS previous_count
+            FROM stat_daily_metric
+            GROUP BY metric
+            """;
+
+    private static final String TOTALS_SQL = """
+            SELECT metric, SUM(metric_value) AS total
+            FROM stat_daily_metric
+            WHERE metric IN (%s)
+            GROUP BY metric
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 지표의 전체/현재 기간/이전 기간 값 (집계 행이 없는 지표는 0)
+     */
+    public Map<RollupMetric, PeriodCounts> countAll(StatisticsPeriod period) {
+        Map<RollupMetric, PeriodCounts> counts = new EnumMap<>(RollupMetric.class);
+        for (RollupMetric metric : RollupMetric.values()) {
+            counts.put(metric, new PeriodCounts(0, 0, 0));
+        }
+
+        jdbcTemplate.query(PERIOD_COUNTS_SQL, rs -> {
+            RollupMetric metric = RollupMetric.ofKey(rs.getString("metric"));
+            if (metric != null) {
+                counts.put(metric, new PeriodCounts(
+                        rs.getLong("total"), rs.getLong("current_count"), rs.getLong("previous_count")));
+            }
+        },
+                Date.valueOf(period.startDate()), Date.valueOf(period.endDate()),
+                Date.valueOf(period.prevStartDate()), Date.valueOf(period.prevEndDate()));
+        return counts;
+    }
+
+    /**
+     * 민원 처리율 (%)
+     */
+    public double complaintRate() {
+        Map<RollupMetric, Long> totals = totals(List.of(RollupMetric.COMPLAINTS, RollupMetric.COMPLETED_COMPLAINTS));
+        return rateOf(totals.get(RollupMetric.COMPLETED_COMPLAINTS), totals.get(RollupMetric.COMPLAINTS));
+    }
+
+    /**
+     * 날짜 [from, to] 의 지표 값을 구간 단위로 묶은 합계 (구간 시작 날짜 → 지표별 값, 값이 없는 구간은 빠짐)
+     */
+    public Map<LocalDate, Map<RollupMetric, Long>> sumByBucket(
+            List<RollupMetric> metrics, LocalDate from, LocalDate to, ChartResolution resolution) {
+        Map<LocalDate, Map<RollupMetric, Long>> buckets = new TreeMap<>();
+        jdbcTemplate.query(
+                "SELECT " + resolution.getBucketExpression() + " AS bucket, metric, SUM(metric_value) AS metric_value "
+                        + "FROM stat_daily_metric "
+                        + "WHERE metric IN (" + placeholders(metrics.size()) + ") AND stat_date BETWEEN ? AND ? "
+                        + "GROUP BY bucket, metric",
+                rs -> {
+                    RollupMetric metric = RollupMetric.ofKey(rs.getString("metric"));
+                    buckets.computeIfAbsent(rs.getDate("bucket").toLocalDate(), date -> new EnumMap<>(RollupMetric.class))
+                            .put(metric, rs.getLong("metric_value"));
+                },
+                args(metrics, Date.valueOf(from), Date.valueOf(to)));
+        return buckets;
+    }
+
+    public static double rateOf(long completed, long total) {
+        return total == 0 ? 0.0 : (double) completed / total * 100.0;
+    }
+
+    private Map<RollupMetric, Long> totals(List<RollupMetric> metrics) {
+        Map<RollupMetric, Long> totals = new EnumMap<>(RollupMetric.class);
+        metrics.forEach(metric -> totals.put(metric, 0L));
+        jdbcTemplate.query(TOTALS_SQL.formatted(placeholders(metrics.size())), rs -> {
+            totals.put(RollupMetric.ofKey(rs.getString("metric")), rs.getLong("total"));
+        }, args(metrics));
+        return totals;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] args(List<RollupMetric> metrics, Object... extra) {
+        List<Object> args = new ArrayList<>();
+        metrics.forEach(metric -> args.add(metric.getKey()));
+        args.addAll(List.of(extra));
+        return args.toArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PeriodCounts {
+        private final long total;
+        private final long current;
+        private final long previous;
+
+        public double growthRate() {
+            return StatisticsPeriod.growthRate(current, previous);
+        }
+    }
+}
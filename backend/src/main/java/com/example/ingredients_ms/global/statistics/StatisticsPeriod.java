@@ -0,0 +1,48 @@
+package com.example.ingredients_ms.global.statistics;
+
+import com.example.ingredients_ms.global.exeption.BusinessLogicException;
+import com.example.ingredients_ms.global.exeption.ExceptionCode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통계 테마(week, month, quarter, year)별 현재/이전 기간
+ * 현재 기간은 [start, end], 이전 기간은 [prevStart, prevEnd] 입니다.
+ */
+public record StatisticsPeriod(LocalDateTime start, LocalDateTime end, LocalDateTime prevStart, LocalDateTime prevEnd) {
+
+    public static StatisticsPeriod of(String theme, LocalDateTime now) {
+        return switch (theme) {
+            case "week" -> new StatisticsPeriod(now.minusWeeks(1), now, now.minusWeeks(2), now.minusWeeks(1));
+            case "month" -> new StatisticsPeriod(now.minusMonths(1), now, now.minusMonths(2), now.minusMonths(1));
+            case "quarter" -> new StatisticsPeriod(now.minusMonths(3), now, now.minusMonths(6), now.minusMonths(3));
+            case "year" -> new StatisticsPeriod(now.minusYears(1), now, now.minusYears(2), now.minusYears(1));
+            default -> throw new BusinessLogicException(ExceptionCode.UNKNOW_THEME);
+        };
+    }
+
+    // 일별 집계 조회용 날짜 구간 (양 끝 포함, 현재 기간은 오늘까지 기간 길이만큼의 날짜)
+    public LocalDate startDate() {
+        return start.toLocalDate().plusDays(1);
+    }
+
+    public LocalDate endDate() {
+        return end.toLocalDate();
+    }
+
+    public LocalDate prevStartDate() {
+        return prevStart.toLocalDate().plusDays(1);
+    }
+
+    public LocalDate prevEndDate() {
+        return prevEnd.toLocalDate();
+    }
+
+    public static double growthRate(long current, long previous) {
+        if (previous == 0) {
+            return current > 0 ? 100.0 : 0.0;
+        }
+        return ((double) (current - previous) / previous) * 100.0;
+    }
+}
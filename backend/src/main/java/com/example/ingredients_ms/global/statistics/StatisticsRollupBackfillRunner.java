@@ -0,0 +1,122 @@
+package com.example.ingredients_ms.global.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 일별 집계 테이블 전체 이력 재구성
+ * 가장 이른 원본 데이터부터 오늘까지 한 달씩 다시 계산하며, 기동을 막지 않도록 별도 스레드에서 실행합니다.
+ * custom.statistics.rollup.backfill 값에 따라 실행합니다.
+ * - auto: 완료 기록(stat_rollup_backfill)이 없을 때만 실행 (배포 직후 한 번)
+ * - true: 기동할 때마다 실행 (예: java -jar app.jar --custom.statistics.rollup.backfill=true)
+ * - false: 실행하지 않음
+ * 여러 노드가 동시에 기동해도 MySQL 네임드 락(GET_LOCK)을 잡은 한 노드만 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupBackfillRunner implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "stat_rollup_backfill";
+
+    private final StatisticsRollupRepository rollupRepository;
+    private final StatisticsRollupScheduler rollupScheduler;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${custom.statistics.rollup.backfill:auto}")
+    private String mode;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if ("false".equalsIgnoreCase(mode)) {
+            return;
+        }
+        boolean force = "true".equalsIgnoreCase(mode);
+        Thread.ofVirtual().name("stat-rollup-backfill").start(() -> {
+            try {
+                runOnce(force);
+            } catch (Exception e) {
+                log.error("일별 집계 백필 실패 - 다음 기동 시 다시 시도합니다.", e);
+            }
+        });
+    }
+
+    private void runOnce(boolean force) {
+        if (!force && rollupRepository.isBackfillCompleted()) {
+            return;
+        }
+
+        // 락은 연결 단위이므로 백필이 끝날 때까지 같은 연결을 잡고 있음
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!acquireLock(connection)) {
+                log.info("일별 집계 백필 - 다른 노드에서 실행 중이므로 건너뜁니다.");
+                return null;
+            }
+            try {
+                // 락을 기다리는 사이 다른 노드가 끝냈을 수 있음
+                if (force || !rollupRepository.isBackfillCompleted()) {
+                    backfill();
+                    rollupRepository.markBackfillCompleted();
+                }
+            } finally {
+                releaseLock(connection);
+            }
+            return null;
+        });
+    }
+
+    private void backfill() {
+        LocalDate earliest = Stream.concat(
+                        RollupMetric.sourceTables().stream()
+                                .map(table -> rollupRepository.findEarliestDate(table, "created_at")),
+                        Stream.of(
+                                rollupRepository.findEarliestDate("diet", "date"),
+                                rollupRepository.findEarliestDate("consume_log", "consumed_date")))
+                .filter(Objects::nonNull)
+                .min(LocalDate::compareTo)
+                .orElse(null);
+        if (earliest == null) {
+            log.info("일별 집계 백필 - 원본 데이터 없음");
+            return;
+        }
+
+        LocalDate end = LocalDate.now().plusDays(1);
+        log.info("일별 집계 백필 시작 - {} ~ {}", earliest, end.minusDays(1));
+        for (LocalDate from = earliest.withDayOfMonth(1); from.isBefore(end); from = from.plusMonths(1)) {
+            LocalDate to = from.plusMonths(1).isBefore(end) ? from.plusMonths(1) : end;
+            rollupScheduler.rebuild(from, to);
+            log.info("일별 집계 백필 - {} ~ {} 완료", from, to.minusDays(1));
+        }
+        log.info("일별 집계 백필 완료");
+    }
+
+    private static boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ingredients_ms.global.statistics;
+
+import com.example.ingredients_ms.domain.consumedlog.entity.ConsumedLog;
+import com.example.ingredients_ms.domain.diet.entity.Diet;
+import com.example.ingredients_ms.global.entity.BaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 대상 엔티티의 쓰기 훅
+ * 저장/수정/삭제된 행의 날짜를 StatisticsRollupTracker 에 기록합니다. (JPQL/JDBC 일괄 변경은 야간 재계산과 백필로 맞춤)
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupEntityListener {
+
+    private final StatisticsRollupTracker tracker;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(BaseEntity entity) {
+        Table table = Hibernate.getClass(entity).getAnnotation(Table.class);
+        if (table != null) {
+            tracker.markMetric(table.name(), entity.getCreatedAt());
+        }
+
+        if (entity instanceof Diet diet && diet.getUser() != null) {
+            tracker.markUserDiet(diet.getUser().getId(), diet.getDate());
+        } else if (entity instanceof ConsumedLog consumedLog && consumedLog.getUser() != null) {
+            tracker.markUserConsumption(consumedLog.getUser().getId(), consumedLog.getConsumedDate());
+        }
+    }
+}
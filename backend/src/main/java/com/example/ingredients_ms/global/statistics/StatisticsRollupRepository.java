@@ -0,0 +1,176 @@
+package com.example.ingredients_ms.global.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 집계 테이블 갱신과 사용자별 집계 조회
+ * 갱신은 항상 [from, to) 날짜 구간을 지우고 원본 테이블에서 다시 계산해 넣으므로 여러 번 실행해도 결과가 같습니다.
+ * 호출하는 쪽에서 구간 단위 트랜잭션을 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원본 테이블의 모든 지표를 날짜 구간 [from, to) 만큼 다시 계산
+     */
+    public void rebuildMetrics(String sourceTable, LocalDate from, LocalDate to) {
+        for (RollupMetric metric : RollupMetric.ofTable(sourceTable)) {
+            jdbcTemplate.update(
+                    "DELETE FROM stat_daily_metric WHERE metric = ? AND stat_date >= ? AND stat_date < ?",
+                    metric.getKey(), Date.valueOf(from), Date.valueOf(to));
+            jdbcTemplate.update(
+                    "INSERT INTO stat_daily_metric (metric, stat_date, metric_value) "
+                            + "SELECT ?, DATE(created_at), COUNT(*) FROM " + sourceTable + " "
+                            + "WHERE created_at >= ? AND created_at < ?"
+                            + (metric.getCondition() == null ? "" : " AND " + metric.getCondition()) + " "
+                            + "GROUP BY DATE(created_at) "
+                            + "ON DUPLICATE KEY UPDATE metric_value = VALUES(metric_value)",
+                    metric.getKey(), Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+        }
+    }
+
+    /**
+     * 사용자의 식단 칼로리 합계를 식단 날짜 기준 [from, to) 만큼 다시 계산 (userId 가 null 이면 전체 사용자)
+     */
+    public void rebuildUserDiet(Long userId, LocalDate from, LocalDate to) {
+        String userCondition = userId == null ? "" : " AND user_id = ?";
+        jdbcTemplate.update(
+                "DELETE FROM stat_daily_user_diet WHERE stat_date >= ? AND stat_date < ?" + userCondition,
+                rangeArgs(Date.valueOf(from), Date.valueOf(to), userId));
+        jdbcTemplate.update(
+                "INSERT INTO stat_daily_user_diet (user_id, stat_date, kcal_sum, meal_count) "
+                        + "SELECT user_id, DATE(date), SUM(kcal), COUNT(*) FROM diet "
+                        + "WHERE user_id IS NOT NULL AND date >= ? AND date < ?" + userCondition + " "
+                        + "GROUP BY user_id, DATE(date) "
+                        + "ON DUPLICATE KEY UPDATE kcal_sum = VALUES(kcal_sum), meal_count = VALUES(meal_count)",
+                rangeArgs(Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()), userId));
+    }
+
+    /**
+     * 사용자의 카테고리별 사용량을 사용 날짜 기준 [from, to) 만큼 다시 계산 (userId 가 null 이면 전체 사용자)
+     */
+    public void rebuildUserConsumption(Long userId, LocalDate from, LocalDate to) {
+        jdbcTemplate.update(
+                "DELETE FROM stat_daily_user_consumption WHERE stat_date >= ? AND stat_date < ?"
+                        + (userId == null ? "" : " AND user_id = ?"),
+                rangeArgs(Date.valueOf(from), Date.valueOf(to), userId));
+        jdbcTemplate.update(
+                "INSERT INTO stat_daily_user_consumption (user_id, stat_date, category_id, quantity_sum) "
+                        + "SELECT cl.user_id, DATE(cl.consumed_date), i.category_id, SUM(cl.consumed_quantity) "
+                        + "FROM consume_log cl "
+                        + "JOIN food_inventory fi ON fi.id = cl.inventory_id "
+                        + "JOIN ingredients i ON i.id = fi.ingredient_id "
+                        + "WHERE cl.user_id IS NOT NULL AND i.category_id IS NOT NULL "
+                        + "AND cl.consumed_date >= ? AND cl.consumed_date < ?"
+                        + (userId == null ? "" : " AND cl.user_id = ?") + " "
+                        + "GROUP BY cl.user_id, DATE(cl.consumed_date), i.category_id "
+                        + "ON DUPLICATE KEY UPDATE quantity_sum = VALUES(quantity_sum)",
+                rangeArgs(Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()), userId));
+    }
+
+    private static Object[] rangeArgs(Object from, Object to, Long userId) {
+        return userId == null ? new Object[]{from, to} : new Object[]{from, to, userId};
+    }
+
+    /**
+     * 전체 이력 백필이 끝난 적이 있는지
+     */
+    public boolean isBackfillCompleted() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stat_rollup_backfill", Integer.class);
+        return count != null && count > 0;
+    }
+
+    public void markBackfillCompleted() {
+        jdbcTemplate.update(
+                "INSERT INTO stat_rollup_backfill (id, completed_at) VALUES (1, ?) "
+                        + "ON DUPLICATE KEY UPDATE completed_at = VALUES(completed_at)",
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 원본 테이블에서 가장 이른 날짜 (백필 시작점, 데이터가 없으면 null)
+     */
+    public LocalDate findEarliestDate(String sourceTable, String dateColumn) {
+        Timestamp earliest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + dateColumn + ") FROM " + sourceTable, Timestamp.class);
+        return earliest == null ? null : earliest.toLocalDateTime().toLocalDate();
+    }
+
+    /**
+     * 사용자의 식단 날짜 구간별 칼로리 합계 (구간 순서대로)
+     * 모든 구간을 조건부 SUM 으로 한 번에 계산하므로 구간 수와 관계없이 (user_id, stat_date) 범위를 한 번만 읽습니다.
+     */
+    public List<DietSum> sumUserDietByRanges(Long userId, List<DateRange> ranges) {
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            DateRange range = ranges.get(i);
+            sql.append(i == 0 ? "" : ", ")
+                    .append("COALESCE(SUM(CASE WHEN stat_date BETWEEN ? AND ? THEN kcal_sum END), 0) AS kcal_sum_").append(i)
+                    .append(", COALESCE(SUM(CASE WHEN stat_date BETWEEN ? AND ? THEN meal_count END), 0) AS meal_count_").append(i);
+            args.addAll(List.of(Date.valueOf(range.from()), Date.valueOf(range.to()),
+                    Date.valueOf(range.from()), Date.valueOf(range.to())));
+        }
+        sql.append(" FROM stat_daily_user_diet WHERE user_id = ? AND stat_date BETWEEN ? AND ?");
+        args.add(userId);
+        args.add(Date.valueOf(ranges.stream().map(DateRange::from).min(LocalDate::compareTo).orElseThrow()));
+        args.add(Date.valueOf(ranges.stream().map(DateRange::to).max(LocalDate::compareTo).orElseThrow()));
+
+        return jdbcTemplate.queryForObject(sql.toString(), (rs, rowNum) -> {
+            List<DietSum> sums = new ArrayList<>(ranges.size());
+            for (int i = 0; i < ranges.size(); i++) {
+                sums.add(new DietSum(rs.getLong("kcal_sum_" + i), rs.getLong("meal_count_" + i)));
+            }
+            return sums;
+        }, args.toArray());
+    }
+
+    /**
+     * 사용자의 해당 연도 월별/카테고리별 사용량
+     */
+    public List<MonthlyConsumption> findUserMonthlyConsumption(Long userId, int year) {
+        return jdbcTemplate.query(
+                "SELECT MONTH(s.stat_date) AS month, c.id AS category_id, c.name AS category_name, "
+                        + "SUM(s.quantity_sum) AS quantity "
+                        + "FROM stat_daily_user_consumption s "
+                        + "JOIN ingredient_categories c ON c.id = s.category_id "
+                        + "WHERE s.user_id = ? AND s.stat_date BETWEEN ? AND ? "
+                        + "GROUP BY MONTH(s.stat_date), c.id, c.name "
+                        + "ORDER BY MONTH(s.stat_date), c.id",
+                (rs, rowNum) -> new MonthlyConsumption(
+                        rs.getInt("month"), rs.getLong("category_id"), rs.getString("category_name"), rs.getLong("quantity")),
+                userId, Date.valueOf(LocalDate.of(year, 1, 1)), Date.valueOf(LocalDate.of(year, 12, 31)));
+    }
+
+    /**
+     * 날짜 구간 [from, to]
+     */
+    public record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    public record DietSum(long kcalSum, long mealCount) {
+
+        public double averageKcal() {
+            return mealCount == 0 ? 0 : (double) kcalSum / mealCount;
+        }
+    }
+
+    public record MonthlyConsumption(int month, Long categoryId, String categoryName, long quantity) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.ingredients_ms.global.statistics;
+
+import com.example.ingredients_ms.global.statistics.StatisticsRollupTracker.MetricDay;
+import com.example.ingredients_ms.global.statistics.StatisticsRollupTracker.UserDay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 집계 테이블 유지
+ * 쓰기 훅이 기록한 날짜를 짧은 주기로 다시 계산하고, 매일 한 번 최근 며칠을 통째로 다시 계산해
+ * 엔티티를 거치지 않은 일괄 변경까지 맞춥니다. 전체 이력은 StatisticsRollupBackfillRunner 로 다시 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRollupScheduler {
+
+    private final StatisticsRollupTracker tracker;
+    private final StatisticsRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.statistics.rollup.reconcile-days:2}")
+    private int reconcileDays;
+
+    /**
+     * 변경된 날짜 반영 (기본 10초 주기)
+     */
+    @Scheduled(fixedDelayString = "${custom.statistics.rollup.refresh-interval-ms:10000}")
+    public void refreshDirtyDays() {
+        for (MetricDay day : tracker.drainMetricDays()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        rollupRepository.rebuildMetrics(day.sourceTable(), day.date(), day.date().plusDays(1)));
+            } catch (Exception e) {
+                log.error("일별 집계 갱신 실패 - {} {}", day.sourceTable(), day.date(), e);
+                tracker.retryMetric(day);
+            }
+        }
+        for (UserDay day : tracker.drainDietDays()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        rollupRepository.rebuildUserDiet(day.userId(), day.date(), day.date().plusDays(1)));
+            } catch (Exception e) {
+                log.error("식단 일별 집계 갱신 실패 - 사용자 ID: {}, {}", day.userId(), day.date(), e);
+                tracker.retryDiet(day);
+            }
+        }
+        for (UserDay day : tracker.drainConsumptionDays()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        rollupRepository.rebuildUserConsumption(day.userId(), day.date(), day.date().plusDays(1)));
+            } catch (Exception e) {
+                log.error("사용량 일별 집계 갱신 실패 - 사용자 ID: {}, {}", day.userId(), day.date(), e);
+                tracker.retryConsumption(day);
+            }
+        }
+    }
+
+    /**
+     * 최근 reconcile-days 일 재계산 (매일 새벽 3시 30분)
+     */
+    @Scheduled(cron = "${custom.statistics.rollup.cron:0 30 3 * * *}")
+    public void reconcile() {
+        LocalDate to = LocalDate.now().plusDays(1);
+        LocalDate from = to.minusDays(reconcileDays + 1L);
+        try {
+            rebuild(from, to);
+            log.info("일별 집계 재계산 완료 - {} ~ {}", from, to.minusDays(1));
+        } catch (Exception e) {
+            log.error("일별 집계 재계산 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 날짜 구간 [from, to) 의 모든 집계를 다시 계산 (원본 테이블별로 트랜잭션 분리)
+     */
+    public void rebuild(LocalDate from, LocalDate to) {
+        for (String sourceTable : RollupMetric.sourceTables()) {
+            transactionTemplate.executeWithoutResult(status -> rollupRepository.rebuildMetrics(sourceTable, from, to));
+        }
+        transactionTemplate.executeWithoutResult(status -> rollupRepository.rebuildUserDiet(null, from, to));
+        transactionTemplate.executeWithoutResult(status -> rollupRepository.rebuildUserConsumption(null, from, to));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.ingredients_ms.global.statistics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다시 계산해야 할 집계 날짜 목록
+ * 쓰기 훅이 원본 행이 바뀐 날짜를 커밋 이후에 기록하고, StatisticsRollupScheduler 가 주기적으로 꺼내 갱신합니다.
+ * 커밋 전에 기록하면 갱신이 커밋보다 먼저 실행되어 바뀐 값이 빠질 수 있으므로 항상 커밋 이후에 넣습니다.
+ */
+@Component
+public class StatisticsRollupTracker {
+
+    private static final Set<String> METRIC_TABLES = Set.copyOf(RollupMetric.sourceTables());
+
+    private final Set<MetricDay> dirtyMetricDays = ConcurrentHashMap.newKeySet();
+    private final Set<UserDay> dirtyDietDays = ConcurrentHashMap.newKeySet();
+    private final Set<UserDay> dirtyConsumptionDays = ConcurrentHashMap.newKeySet();
+
+    public void markMetric(String sourceTable, LocalDateTime createdAt) {
+        if (createdAt != null && METRIC_TABLES.contains(sourceTable)) {
+            afterCommit(() -> dirtyMetricDays.add(new MetricDay(sourceTable, createdAt.toLocalDate())));
+        }
+    }
+
+    public void markUserDiet(Long userId, LocalDateTime date) {
+        if (userId != null && date != null) {
+            afterCommit(() -> dirtyDietDays.add(new UserDay(userId, date.toLocalDate())));
+        }
+    }
+
+    public void markUserConsumption(Long userId, LocalDateTime consumedDate) {
+        if (userId != null && consumedDate != null) {
+            afterCommit(() -> dirtyConsumptionDays.add(new UserDay(userId, consumedDate.toLocalDate())));
+        }
+    }
+
+    public List<MetricDay> drainMetricDays() {
+        return drain(dirtyMetricDays);
+    }
+
+    public List<UserDay> drainDietDays() {
+        return drain(dirtyDietDays);
+    }
+
+    public List<UserDay> drainConsumptionDays() {
+        return drain(dirtyConsumptionDays);
+    }
+
+    // 갱신에 실패한 날짜는 다음 주기에 다시 시도
+    public void retryMetric(MetricDay day) {
+        dirtyMetricDays.add(day);
+    }
+
+    public void retryDiet(UserDay day) {
+        dirtyDietDays.add(day);
+    }
+
+    public void retryConsumption(UserDay day) {
+        dirtyConsumptionDays.add(day);
+    }
+
+    private static <T> List<T> drain(Set<T> dirty) {
+        List<T> drained = new ArrayList<>();
+        Iterator<T> iterator = dirty.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record MetricDay(String sourceTable, LocalDate date) {
+    }
+
+    public record UserDay(Long userId, LocalDate date) {
+    }
+}
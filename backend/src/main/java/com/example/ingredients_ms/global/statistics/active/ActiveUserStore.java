@@ -0,0 +1,17 @@
+package com.example.ingredients_ms.global.statistics.active;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 활동 사용자 스케치 저장소
+ * custom.statistics.active-users.store 값으로 구현을 고릅니다. (redis: PFADD/PFCOUNT 로 여러 노드가 공유, local: 단일 노드용 인메모리 + 테이블 저장)
+ */
+public interface ActiveUserStore {
+
+    void add(LocalDate date, Long userId);
+
+    /**
+     * 날짜 [from, to] 동안 한 번 이상 활동한 고유 사용자 수 (추정치)
+     */
+    long count(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,63 @@
+package com.example.ingredients_ms.global.statistics.active;
+
+import com.example.ingredients_ms.global.statistics.StatisticsPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 활동 사용자(DAU/WAU/MAU) 집계
+ * 로그인 등 활동이 있을 때 그날의 스케치에 사용자 ID 를 넣고, 임의 기간의 고유 사용자 수는 날짜별 스케치를 합쳐 추정합니다.
+ * 활동량과 관계없이 기간의 날짜 수만큼만 스케치를 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveUserTracker {
+
+    private final ActiveUserStore activeUserStore;
+
+    public void record(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        try {
+            activeUserStore.add(LocalDate.now(), userId);
+        } catch (Exception e) {
+            // 활동 집계 실패는 요청 처리에 영향을 주지 않음
+            log.error("활동 사용자 기록 실패 - 사용자 ID: {}", userId, e);
+        }
+    }
+
+    /**
+     * 오늘까지 days 일 동안의 활동 사용자 수와 그 직전 같은 길이 기간의 값
+     */
+    public WindowCount countLastDays(int days) {
+        LocalDate today = LocalDate.now();
+        return new WindowCount(
+                activeUserStore.count(today.minusDays(days - 1L), today),
+                activeUserStore.count(today.minusDays(2L * days - 1), today.minusDays(days)));
+    }
+
+    /**
+     * 통계 기간의 활동 사용자 수와 이전 기간의 값
+     */
+    public WindowCount count(StatisticsPeriod period) {
+        return new WindowCount(
+                activeUserStore.count(period.startDate(), period.endDate()),
+                activeUserStore.count(period.prevStartDate(), period.prevEndDate()));
+    }
+
+    public long count(LocalDate from, LocalDate to) {
+        return activeUserStore.count(from, to);
+    }
+
+    public record WindowCount(long current, long previous) {
+
+        public double growthRate() {
+            return StatisticsPeriod.growthRate(current, previous);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ingredients_ms.global.statistics.active;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 저장소
+ * 날짜별 스케치를 메모리에 두고, 바뀐 날짜만 주기적으로 stat_daily_active_sketch 테이블에 저장합니다.
+ * 기동 시 보관 기간 안의 스케치를 테이블에서 읽어 옵니다.
+ */
+@Component
+@ConditionalOnProperty(name = "custom.statistics.active-users.store", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LocalActiveUserStore implements ActiveUserStore {
+
+    private static final int PRECISION = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${custom.statistics.active-users.retention-days:800}")
+    private int retentionDays;
+
+    private final Map<LocalDate, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Set<LocalDate> dirtyDates = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void load() {
+        jdbcTemplate.query(
+                "SELECT stat_date, registers FROM stat_daily_active_sketch WHERE stat_date >= ?",
+                rs -> {
+                    try {
+                        sketches.put(rs.getDate("stat_date").toLocalDate(),
+                                HyperLogLog.fromBytes(PRECISION, rs.getBytes("registers")));
+                    } catch (IllegalArgumentException e) {
+                        log.warn("활동 사용자 스케치를 읽을 수 없습니다 - {}", rs.getDate("stat_date"));
+                    }
+                },
+                Date.valueOf(LocalDate.now().minusDays(retentionDays)));
+    }
+
+    @Override
+    public void add(LocalDate date, Long userId) {
+        sketches.computeIfAbsent(date, d -> new HyperLogLog(PRECISION)).add(userId);
+        dirtyDates.add(date);
+    }
+
+    @Override
+    public long count(LocalDate from, LocalDate to) {
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            HyperLogLog sketch = sketches.get(date);
+            if (sketch != null) {
+                union.merge(sketch);
+            }
+        }
+        return union.estimate();
+    }
+
+    /**
+     * 바뀐 날짜의 스케치 저장과 보관 기간이 지난 스케치 정리 (기본 1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${custom.statistics.active-users.flush-interval-ms:60000}")
+    public void flush() {
+        for (LocalDate date : Set.copyOf(dirtyDates)) {
+            dirtyDates.remove(date);
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO stat_daily_active_sketch (stat_date, registers) VALUES (?, ?) "
+                                + "ON DUPLICATE KEY UPDATE registers = VALUES(registers)",
+                        Date.valueOf(date), sketches.get(date).toBytes());
+            } catch (Exception e) {
+                log.error("활동 사용자 스케치 저장 실패 - {}", date, e);
+                dirtyDates.add(date);
+            }
+        }
+
+        LocalDate expiredBefore = LocalDate.now().minusDays(retentionDays);
+        if (sketches.keySet().removeIf(date -> date.isBefore(expiredBefore))) {
+            jdbcTemplate.update("DELETE FROM stat_daily_active_sketch WHERE stat_date < ?", Date.valueOf(expiredBefore));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ingredients_ms.global.statistics.active;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 저장소 (날짜별 HyperLogLog 키에 PFADD, 기간 조회는 PFCOUNT 로 여러 키를 합쳐서 계산)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.statistics.active-users.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisActiveUserStore implements ActiveUserStore {
+
+    private static final String KEY_PREFIX = "stat:active:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${custom.statistics.active-users.retention-days:800}")
+    private int retentionDays;
+
+    @Override
+    public void add(LocalDate date, Long userId) {
+        String key = keyOf(date);
+        Long changed = stringRedisTemplate.opsForHyperLogLog().add(key, String.valueOf(userId));
+        // 그날 처음 바뀐 경우에만 만료 시간 설정
+        if (changed != null && changed > 0) {
+            stringRedisTemplate.expire(key, Duration.ofDays(retentionDays));
+        }
+    }
+
+    @Override
+    public long count(LocalDate from, LocalDate to) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(keyOf(date));
+        }
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(String[]::new));
+        return count == null ? 0 : count;
+    }
+
+    private static String keyOf(LocalDate date) {
+        return KEY_PREFIX + date.format(DATE_FORMAT);
+    }
+}
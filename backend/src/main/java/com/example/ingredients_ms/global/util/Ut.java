@@ -18,6 +18,9 @@ import java.util.concurrent.TimeUnit;
 // Map으로 들어온 데이터를 String으로, String으로 들어온 데이터를 Map으로 변환하는 클래스
 public class Ut {
 
+    // ObjectMapper 는 설정 이후 스레드 안전하므로 호출마다 새로 만들지 않고 공유
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     // 키-값 쌍을 가변 인자로 받아 Map을 생성하는 유틸리티 메서드
     // 사용 예: mapOf("name", "홍길동", "age", 20)
     public static <K, V> Map<K, V> mapOf(Object... args) {
@@ -38,7 +41,7 @@ public class Ut {
     public static class json {
         public static Object toStr(Map<String, Object> map) {
             try {
-                return new ObjectMapper().writeValueAsString(map);
+                return OBJECT_MAPPER.writeValueAsString(map);
             } catch (JsonProcessingException e) {
                 return null;
             }
@@ -46,7 +49,7 @@ public class Ut {
     }
     public static Map<String, Object> toMap(String jsonStr) {
         try {
-            return new ObjectMapper().readValue(jsonStr, LinkedHashMap.class);
+            return OBJECT_MAPPER.readValue(jsonStr, LinkedHashMap.class);
         } catch (JsonProcessingException e) {
             return null;
         }
@@ -0,0 +1,27 @@
+-- 통계용 일별 집계 테이블 (원본 테이블에서 날짜 단위로 다시 계산해 채움)
+
+CREATE TABLE IF NOT EXISTS stat_daily_metric (
+    metric VARCHAR(40) NOT NULL,
+    stat_date DATE NOT NULL,
+    metric_value BIGINT NOT NULL,
+
+    PRIMARY KEY (metric, stat_date)
+);
+
+CREATE TABLE IF NOT EXISTS stat_daily_user_diet (
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    kcal_sum BIGINT NOT NULL,
+    meal_count INT NOT NULL,
+
+    PRIMARY KEY (user_id, stat_date)
+);
+
+CREATE TABLE IF NOT EXISTS stat_daily_user_consumption (
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    quantity_sum BIGINT NOT NULL,
+
+    PRIMARY KEY (user_id, stat_date, category_id)
+);
@@ -0,0 +1,6 @@
+-- 날짜별 활동 사용자 HyperLogLog 스케치 (custom.statistics.active-users.store=local 일 때 사용)
+
+CREATE TABLE IF NOT EXISTS stat_daily_active_sketch (
+    stat_date DATE NOT NULL PRIMARY KEY,
+    registers BLOB NOT NULL
+);
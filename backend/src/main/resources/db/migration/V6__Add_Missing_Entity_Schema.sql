@@ -0,0 +1,36 @@
+-- 엔티티에만 선언되어 있던 스키마 변경 (운영 환경은 ddl-auto: none 이므로 마이그레이션으로 반영)
+
+-- 레시피 좋아요 수 샤드 카운터 (RecipeLikeCounter)
+CREATE TABLE IF NOT EXISTS recipe_like_counter (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipe_id BIGINT NOT NULL,
+    shard_no INT NOT NULL,
+    delta BIGINT NOT NULL DEFAULT 0,
+    created_at DATETIME(6),
+    modified_at DATETIME(6),
+
+    UNIQUE KEY uk_recipe_like_counter_recipe_shard (recipe_id, shard_no)
+);
+
+-- 유통기한 알람 수신 방식 (User.expiryNotificationMode)
+ALTER TABLE users ADD COLUMN expiry_notification_mode VARCHAR(20) DEFAULT 'ITEM';
+
+-- 알람 목록 키셋 페이지네이션 (Notification)
+CREATE INDEX idx_notification_user_created_at_id ON notification (user_id, created_at, id);
+
+-- 일별 집계 재계산 시 가입자 수를 날짜 범위로 읽도록 (User 변경마다 users 전체를 훑지 않게)
+CREATE INDEX idx_users_created_at ON users (created_at);
+
+-- 일별 집계 전체 이력 백필 완료 기록 (한 번 끝나면 기동 시 다시 실행하지 않음)
+CREATE TABLE IF NOT EXISTS stat_rollup_backfill (
+    id TINYINT NOT NULL PRIMARY KEY,
+    completed_at DATETIME(6) NOT NULL
+);
+
+-- 레시피 피드 키셋 페이지네이션 (Recipe, 정렬 기준별로 filesort 없이 읽도록)
+CREATE INDEX idx_recipe_created_at_id ON recipe (created_at, id);
+CREATE INDEX idx_recipe_like_count_id ON recipe (like_count, id);
+CREATE INDEX idx_recipe_view_count_id ON recipe (view_count, id);
+
+-- 사용 기록 키셋 페이지네이션/내보내기 (ConsumedLog, 사용자별 사용 날짜 순으로 filesort 없이 읽도록)
+CREATE INDEX idx_consume_log_user_consumed_date_id ON consume_log (user_id, consumed_date, id);
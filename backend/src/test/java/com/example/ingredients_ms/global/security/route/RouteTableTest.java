@@ -0,0 +1,73 @@
+package com.example.ingredients_ms.global.security.route;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteTableTest {
+
+    private final RouteTable routeTable = RouteTable.builder()
+            .get("/api/*/users/me").hasAnyRole("USER", "ADMIN")
+            .get("/api/*/users/*").hasRole("ADMIN")
+            .post("/api/*/users/login").skipAuthentication().permitAll()
+            .get("/api/*/category/").hasAnyRole("USER", "ADMIN")
+            .get("/api/*/recipe/detail/{recipeId}").permitAll()
+            .get("/api/*/admin/**").hasRole("ADMIN")
+            .any("/api/*/files/**").hasRole("USER")
+            .build();
+
+    @Test
+    void 먼저_선언된_규칙이_우선() {
+        RouteRule rule = routeTable.match("GET", "/api/v1/users/me");
+
+        assertThat(rule.getPattern()).isEqualTo("/api/*/users/me");
+        assertThat(rule.getRoles()).containsExactlyInAnyOrder("USER", "ADMIN");
+    }
+
+    @Test
+    void 별표는_세그먼트_하나만_매칭() {
+        assertThat(routeTable.match("GET", "/api/v1/users/42").getPattern()).isEqualTo("/api/*/users/*");
+        assertThat(routeTable.match("GET", "/api/v1/recipe/detail/7").isPermitAll()).isTrue();
+
+        assertThat(routeTable.match("GET", "/api/v1/users/42/extra")).isNull();
+        assertThat(routeTable.match("GET", "/api/v1/users/")).isNull();
+        assertThat(routeTable.match("GET", "/api/users/me")).isNull();
+    }
+
+    @Test
+    void 별표_두개는_나머지_전체와_0개_세그먼트를_매칭() {
+        assertThat(routeTable.match("GET", "/api/v1/admin").getPattern()).isEqualTo("/api/*/admin/**");
+        assertThat(routeTable.match("GET", "/api/v1/admin/").getPattern()).isEqualTo("/api/*/admin/**");
+        assertThat(routeTable.match("GET", "/api/v1/admin/charts/month").getPattern()).isEqualTo("/api/*/admin/**");
+    }
+
+    @Test
+    void 끝의_슬래시를_구분() {
+        assertThat(routeTable.match("GET", "/api/v1/category/")).isNotNull();
+        assertThat(routeTable.match("GET", "/api/v1/category")).isNull();
+        assertThat(routeTable.match("GET", "/api/v1/users/me/")).isNull();
+    }
+
+    @Test
+    void 메서드가_다르면_매칭되지_않음() {
+        assertThat(routeTable.match("POST", "/api/v1/users/me")).isNull();
+        assertThat(routeTable.match("GET", "/api/v1/users/login").getPattern()).isEqualTo("/api/*/users/*");
+
+        RouteRule login = routeTable.match("POST", "/api/v1/users/login");
+        assertThat(login.isPermitAll()).isTrue();
+        assertThat(login.isSkipAuthentication()).isTrue();
+    }
+
+    @Test
+    void any_는_모든_메서드를_매칭() {
+        assertThat(routeTable.match("DELETE", "/api/v1/files/a/b")).isNotNull();
+        assertThat(routeTable.match("PUT", "/api/v1/files/a")).isNotNull();
+    }
+
+    @Test
+    void 규칙이_없는_경로는_null() {
+        assertThat(routeTable.match("POST", "/api/v1/alarm/send")).isNull();
+        assertThat(routeTable.match("GET", "/")).isNull();
+        assertThat(routeTable.match("GET", "/api")).isNull();
+    }
+}
@@ -55,6 +55,7 @@ export const API_ENDPOINTS = {
       WEEK_GRAPH: '/api/v1/diet/statistics/week/graph', // 주간 그래프 통계
       QUARTER: '/api/v1/diet/statistics/quarter', // 3개월 통계
       YEAR: '/api/v1/diet/statistics/year', // 연간 통계
+      SUMMARY: '/api/v1/diet/statistics/summary', // 주간/월간/3개월/연간 + 주간 그래프 통계
     },
 
     // 민원 관련
@@ -95,6 +96,8 @@ export const API_ENDPOINTS = {
       LAST_3_MONTHS: '/api/v1/consumedlog/last3months', // 지난 3개월 식품 재고 사용량 조회
       THIS_YEAR: '/api/v1/consumedlog/thisyear', // 올해 식품 재고 사용량 조회
       MONTHLY: '/api/v1/consumedlog/monthly', // 올해 월별 식품 재고 사용량 조회
+      HISTORY: '/api/v1/consumedlog/history', // 식품 재고 사용 기록 조회 (커서 페이지네이션)
+      EXPORT: '/api/v1/consumedlog/export', // 식품 재고 사용 기록 내보내기 (NDJSON)
     },
 
     // 레시피 관련
@@ -7,6 +7,12 @@ export interface AdminStatistics {
   activeUserGrowthRate: number;
   newUserGrowthRate: number;
   complaintRate: number;
+  dailyActiveUsers: number;
+  dailyActiveUserGrowthRate: number;
+  weeklyActiveUsers: number;
+  weeklyActiveUserGrowthRate: number;
+  monthlyActiveUsers: number;
+  monthlyActiveUserGrowthRate: number;
   totalRecipes: number;
   recipeGrowthRate: number;
   totalIngredients: number;
@@ -3,7 +3,7 @@ import { API_ENDPOINTS, createApiUrl } from '../endpoints';
 
 export interface NotificationResponseDto {
   id: number;
-  type: 'LIKE' | 'COMPLAINT' | 'EXPIRING_SOON' | 'EXPIRED';
+  type: 'LIKE' | 'COMPLAINT' | 'EXPIRING_SOON' | 'EXPIRED' | 'EXPIRY_DIGEST';
   title: string;
   message: string;
   data: string;
@@ -19,7 +19,14 @@ export interface RsData<T> {
   data: T;
 }
 
-export type NotificationListResponse = RsData<NotificationResponseDto[]>;
+// 커서 기반 알람 목록 (nextCursor 로 다음 페이지 조회)
+export interface NotificationPageResponseDto {
+  notifications: NotificationResponseDto[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+export type NotificationListResponse = RsData<NotificationPageResponseDto>;
 export type NotificationCountResponse = RsData<number>;
 export type NotificationResponse = RsData<null>;
 
@@ -27,9 +34,10 @@ class NotificationService {
   /**
    * 사용자의 알람 목록 조회
    */
-  async getUserNotifications(page: number = 0, size: number = 20): Promise<NotificationListResponse> {
+  async getUserNotifications(cursor: string | null = null, size: number = 20): Promise<NotificationListResponse> {
     try {
-      const response = await apiClient.get(`${API_ENDPOINTS.NOTIFICATIONS.BASE}?page=${page}&size=${size}`);
+      const query = cursor ? `cursor=${encodeURIComponent(cursor)}&size=${size}` : `size=${size}`;
+      const response = await apiClient.get(`${API_ENDPOINTS.NOTIFICATIONS.BASE}?${query}`);
       console.log('getUserNotifications 원본 응답:', response);
       return response as NotificationListResponse;
     } catch (error) {
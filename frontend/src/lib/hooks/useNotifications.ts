@@ -47,8 +47,8 @@ export function useNotifications(shouldFetch: boolean = true): UseNotificationsR
 
       // 알람 목록 설정 - RsData 형태로 응답
       if (notificationsResponse && notificationsResponse.resultCode === '200') {
-        setNotifications(notificationsResponse.data);
-        console.log('알람 목록 설정 완료:', notificationsResponse.data);
+        setNotifications(notificationsResponse.data.notifications);
+        console.log('알람 목록 설정 완료:', notificationsResponse.data.notifications);
       } else {
         console.error('알람 목록 조회 실패:', notificationsResponse?.msg || '응답이 없습니다');
         console.error('알람 목록 응답 전체:', notificationsResponse);